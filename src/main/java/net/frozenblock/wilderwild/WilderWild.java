@@ -20,8 +20,11 @@ package net.frozenblock.wilderwild;
 
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.FrozenBools;
 import net.frozenblock.lib.config.api.instance.ConfigModification;
@@ -29,6 +32,10 @@ import net.frozenblock.lib.config.api.registry.ConfigRegistry;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.mobcategory.api.entrypoint.FrozenMobCategoryEntrypoint;
 import net.frozenblock.lib.mobcategory.impl.FrozenMobCategory;
+import net.frozenblock.wilderwild.block.impl.FallingLitterSimulator;
+import net.frozenblock.wilderwild.block.impl.MesogleaSections;
+import net.frozenblock.wilderwild.command.FireflySyncCommand;
+import net.frozenblock.wilderwild.command.PopulationCountCommand;
 import net.frozenblock.wilderwild.command.SpreadSculkCommand;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
@@ -36,6 +43,7 @@ import net.frozenblock.wilderwild.datafix.minecraft.WWMinecraftDataFixer;
 import net.frozenblock.wilderwild.datafix.wilderwild.WWDataFixer;
 import net.frozenblock.wilderwild.entity.Crab;
 import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.TermiteBlockFlags;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.frozenblock.wilderwild.mod_compat.WWModIntegrations;
 import net.frozenblock.wilderwild.networking.WWNetworking;
@@ -109,15 +117,38 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWVillagers.register();
 
 		ServerLifecycleEvents.SERVER_STOPPED.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+			Jellyfish.clearJellyfishPerLevel();
+			Crab.clearCrabsPerLevel();
+			FallingLitterSimulator.clear();
+			FireflySyncCommand.reset();
 		});
-		ServerTickEvents.START_SERVER_TICK.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+		ServerTickEvents.END_WORLD_TICK.register(FallingLitterSimulator::tickLevel);
+		ServerWorldEvents.UNLOAD.register((server, level) -> FallingLitterSimulator.removeLevel(level));
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Jellyfish jellyfish) {
+				jellyfish.startCounting(level);
+			} else if (entity instanceof Crab crab) {
+				crab.startCounting(level);
+			}
+		});
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Jellyfish jellyfish) {
+				jellyfish.stopCounting();
+			} else if (entity instanceof Crab crab) {
+				crab.stopCounting();
+			}
+		});
+
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			TermiteBlockFlags.invalidate();
+			MesogleaSections.invalidate();
 		});
 
-		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
+			SpreadSculkCommand.register(dispatcher);
+			FireflySyncCommand.register(dispatcher);
+			PopulationCountCommand.register(dispatcher);
+		});
 
 		WWModIntegrations.init();
 
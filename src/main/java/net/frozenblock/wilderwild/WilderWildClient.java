@@ -22,6 +22,7 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
@@ -38,6 +39,7 @@ import net.frozenblock.wilderwild.client.WWTints;
 import net.frozenblock.wilderwild.client.debug.OstrichDebugRenderer;
 import net.frozenblock.wilderwild.entity.render.easter.WilderEasterEggs;
 import net.frozenblock.wilderwild.networking.WWClientNetworking;
+import net.frozenblock.wilderwild.particle.impl.LeafTintCache;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -61,6 +63,7 @@ public final class WilderWildClient implements ClientModInitializer {
 		WWTints.initItems();
 
 		WWClientNetworking.registerPacketReceivers();
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> LeafTintCache.clear());
 
 		ResourceManagerHelper.get(PackType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
 			@Override
@@ -225,6 +225,9 @@ public class StoneChestBlock extends ChestBlock {
 				return InteractionResult.FAIL;
 			}
 			boolean ancient = state.getValue(ANCIENT);
+			float previousOpenProgress = stoneChest.openProgress;
+			float previousHighestLidPoint = stoneChest.highestLidPoint;
+			int previousStillLidTicks = stoneChest.stillLidTicks;
 			if (canInteract(level, pos)) {
 				MenuProvider namedScreenHandlerFactory = this.getMenuProvider(state, level, pos);
 				if (!hasLid(level, pos) && (!player.isShiftKeyDown() || stoneChest.openProgress >= MAX_OPENABLE_PROGRESS) && namedScreenHandlerFactory != null) {
@@ -258,7 +261,14 @@ public class StoneChestBlock extends ChestBlock {
 			if (otherChest != null) {
 				((ChestBlockEntityInterface) stoneChest).wilderWild$syncBubble(stoneChest, otherChest);
 			}
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			boolean lidChanged = stoneChest.openProgress != previousOpenProgress
+				|| stoneChest.highestLidPoint != previousHighestLidPoint
+				|| stoneChest.stillLidTicks != previousStillLidTicks;
+			if (lidChanged) {
+				stoneChest.syncLidValuesAndUpdate(otherChest);
+			} else {
+				stoneChest.syncLidValues(otherChest);
+			}
 		}
 		return InteractionResult.CONSUME;
 	}
@@ -85,9 +85,21 @@ public class GeyserBlockEntity extends BlockEntity {
 	public static final double EFFECTIVE_ADDITIONAL_WIND_INTENSITY = 0.5D;
 	public static final double BASE_WIND_INTENSITY = 0.5D;
 	public static final int FIRE_TICKS_MAX = 260;
+	private static final int ERUPTION_COLUMN_LENGTH = 5;
 	private boolean hasRunFirstCheck = false;
 	private int tickUntilNextEvent;
 	private float eruptionProgress;
+	private final BlockState[] eruptionColumn = new BlockState[ERUPTION_COLUMN_LENGTH];
+	private boolean eruptionColumnValid;
+	private GeyserType eruptionColumnType;
+	private Direction eruptionColumnDirection;
+	private int eruptionLength;
+	private AABB eruption;
+	private AABB effectiveEruption;
+	private AABB damagingEruption;
+	private WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance;
+	private WindDisturbance<GeyserBlockEntity> baseWindDisturbance;
+	private float lastBlockScanProgress = -1F;
 
 	public GeyserBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.GEYSER, pos, state);
@@ -99,26 +111,37 @@ public class GeyserBlockEntity extends BlockEntity {
 		Direction direction = state.getValue(GeyserBlock.FACING);
 		boolean natural = state.getValue(GeyserBlock.NATURAL);
 
+		boolean changed = false;
 		if (!this.hasRunFirstCheck) {
 			level.scheduleTick(pos, this.getBlockState().getBlock(), level.random.nextInt(TICK_DELAY_START_MIN, TICK_DELAY_START_MAX));
 			this.hasRunFirstCheck = true;
+			changed = true;
 		} else if (GeyserBlock.isActive(geyserType)) {
 			if (geyserStage == GeyserStage.ERUPTING) {
 				if (this.eruptionProgress == 0F) {
 					this.tickUntilNextEvent = natural ? random.nextInt(MIN_ERUPTION_TICKS, MAX_ERUPTION_TICKS) : ERUPTION_TICKS_UNNATURAL;
 					level.playSound(null, pos, geyserType.getEruptionSound(), SoundSource.BLOCKS, 0.7F, 0.9F + (random.nextFloat() * 0.2F));
 				}
-				this.eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
+				float eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
+				if (eruptionProgress != this.eruptionProgress) {
+					this.eruptionProgress = eruptionProgress;
+					changed = true;
+				}
 				this.handleEruption(level, pos, geyserType, direction);
 			}
+			// The countdown alone isn't worth dirtying the chunk over; it's saved along with the next real change.
 			this.tickUntilNextEvent -= 1;
 			if (this.tickUntilNextEvent <= 0) {
 				this.advanceStage(level, pos, state, geyserStage, natural, random);
+				changed = true;
 			}
-		} else {
+		} else if (geyserStage != GeyserStage.DORMANT) {
 			this.setDormant(level, pos, state, random);
+			changed = true;
+		}
+		if (changed) {
+			this.setChanged();
 		}
-		this.setChanged();
 	}
 
 	private static boolean canEruptionPassThrough(Level level, BlockPos pos, @NotNull BlockState state, @NotNull Direction direction) {
@@ -139,66 +162,93 @@ public class GeyserBlockEntity extends BlockEntity {
 		);
 	}
 
-	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
-		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
-		Optional<BlockPos> cutoffPos = Optional.empty();
-		Optional<BlockPos> damageCutoffPos = Optional.empty();
+	public void invalidateEruptionColumn() {
+		this.eruptionColumnValid = false;
+	}
+
+	private boolean updateEruptionColumn(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		boolean changed = !this.eruptionColumnValid || geyserType != this.eruptionColumnType || direction != this.eruptionColumnDirection;
 		BlockPos.MutableBlockPos mutablePos = pos.mutable();
-		for (int i = 0; i < 5; i++) {
-			if (level.hasChunkAt(mutablePos.move(direction))) {
-				BlockState state = level.getBlockState(mutablePos);
+		for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+			BlockState state = level.hasChunkAt(mutablePos.move(direction)) ? level.getBlockState(mutablePos) : null;
+			if (state != this.eruptionColumn[i]) {
+				this.eruptionColumn[i] = state;
+				changed = true;
+			}
+		}
+		if (!changed) return false;
+
+		int length = ERUPTION_COLUMN_LENGTH;
+		int cutoff = -1;
+		int damageCutoff = -1;
+		mutablePos.set(pos);
+		for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+			mutablePos.move(direction);
+			BlockState state = this.eruptionColumn[i];
+			if (state != null) {
 				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
+					length = i + 1;
 					break;
 				}
 				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
 				boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
 				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
-				if (mismatchesAir || mismatchesWater || mismatchesLava) {
-					if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
+				if (cutoff == -1 && (mismatchesAir || mismatchesWater || mismatchesLava)) {
+					cutoff = i + 1;
 				}
-				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
-					if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
+				if (damageCutoff == -1 && geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
+					damageCutoff = i + 1;
 				}
 			}
 		}
-		AABB eruption = aabb(pos, mutablePos.immutable());
-		mutablePos.move(direction.getOpposite());
 
-		AABB effectiveEruption = cutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-		AABB damagingEruption = damageCutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
+		this.eruptionLength = length;
+		this.eruption = aabb(pos, pos.relative(direction, length));
+		this.effectiveEruption = aabb(pos, pos.relative(direction, (cutoff != -1 ? cutoff : length) - 1));
+		this.damagingEruption = aabb(pos, pos.relative(direction, (damageCutoff != -1 ? damageCutoff : length) - 1));
 
-		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
-		List<Entity> entities = level.getEntities(
-			EntityTypeTest.forClass(Entity.class),
-			maxPossibleEruptionBox,
-			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
-		);
 		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
-
-		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+		this.effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
 			Optional.of(this),
 			geyserStartPos,
-			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			this.effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
 			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
 		);
-		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+		this.baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
 			Optional.of(this),
 			geyserStartPos,
-			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			this.eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
 			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
 		);
 
+		this.eruptionColumnValid = true;
+		this.eruptionColumnType = geyserType;
+		this.eruptionColumnDirection = direction;
+		return true;
+	}
+
+	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		boolean columnChanged = this.updateEruptionColumn(level, pos, geyserType, direction);
+		AABB eruption = this.eruption;
+		AABB effectiveEruption = this.effectiveEruption;
+		AABB damagingEruption = this.damagingEruption;
+
+		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
+		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
+		List<Entity> entities = level.getEntities(
+			EntityTypeTest.forClass(Entity.class),
+			maxPossibleEruptionBox,
+			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
+		);
+		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+
 		if (level instanceof ServerLevel serverLevel) {
 			WindManager windManager = WindManager.getWindManager(serverLevel);
-			windManager.addWindDisturbance(effectiveWindDisturbance);
-			windManager.addWindDisturbance(baseWindDisturbance);
+			windManager.addWindDisturbance(this.effectiveWindDisturbance);
+			windManager.addWindDisturbance(this.baseWindDisturbance);
 		} else if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
-			addWindDisturbanceToClient(effectiveWindDisturbance);
-			addWindDisturbanceToClient(baseWindDisturbance);
+			addWindDisturbanceToClient(this.effectiveWindDisturbance);
+			addWindDisturbanceToClient(this.baseWindDisturbance);
 		}
 
 		Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
@@ -241,32 +291,35 @@ public class GeyserBlockEntity extends BlockEntity {
 			}
 		}
 
-		for (BlockPos blockPos : BlockPos.betweenClosed(pos, mutablePos.immutable())) {
-			if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
-				BlockState state = level.getBlockState(blockPos);
+		if (columnChanged || this.eruptionProgress != this.lastBlockScanProgress) {
+			this.lastBlockScanProgress = this.eruptionProgress;
+			for (BlockPos blockPos : BlockPos.betweenClosed(pos, pos.relative(direction, this.eruptionLength - 1))) {
+				if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
+					BlockState state = level.getBlockState(blockPos);
 
-				if (geyserType == GeyserType.LAVA) {
-					if (state.is(BlockTags.CAMPFIRES) && state.hasProperty(BlockStateProperties.LIT)) {
-						level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, true));
-					}
+					if (geyserType == GeyserType.LAVA) {
+						if (state.is(BlockTags.CAMPFIRES) && state.hasProperty(BlockStateProperties.LIT)) {
+							level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, true));
+						}
 
-					if ((state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES)) && state.hasProperty(BlockStateProperties.LIT)) {
-						level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, true));
-					}
-				} else {
-					if (state.is(BlockTags.FIRE)) {
-						if (!level.isClientSide()) {
-							level.levelEvent(null, LevelEvent.SOUND_EXTINGUISH_FIRE, pos, 0);
+						if ((state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES)) && state.hasProperty(BlockStateProperties.LIT)) {
+							level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, true));
+						}
+					} else {
+						if (state.is(BlockTags.FIRE)) {
+							if (!level.isClientSide()) {
+								level.levelEvent(null, LevelEvent.SOUND_EXTINGUISH_FIRE, pos, 0);
+							}
+							level.removeBlock(blockPos, false);
 						}
-						level.removeBlock(blockPos, false);
-					}
 
-					if (state.is(BlockTags.CAMPFIRES) && state.hasProperty(BlockStateProperties.LIT)) {
-						level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, false));
-					}
+						if (state.is(BlockTags.CAMPFIRES) && state.hasProperty(BlockStateProperties.LIT)) {
+							level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, false));
+						}
 
-					if ((state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES)) && state.hasProperty(BlockStateProperties.LIT)) {
-						level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, false));
+						if ((state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES)) && state.hasProperty(BlockStateProperties.LIT)) {
+							level.setBlockAndUpdate(blockPos, state.setValue(BlockStateProperties.LIT, false));
+						}
 					}
 				}
 			}
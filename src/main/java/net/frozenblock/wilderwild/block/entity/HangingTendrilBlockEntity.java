@@ -63,6 +63,10 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final String BASE_TEXTURE = "textures/entity/hanging_tendril/";
+	private static final ResourceLocation[] MILK_TEXTURES = createTextures("milk", MILK_FRAMES);
+	private static final ResourceLocation[] ACTIVE_TEXTURES = createTextures("active", ACTIVE_FRAMES);
+	private static final ResourceLocation[] TWITCHING_TEXTURES = createTextures("twitch", TWITCHING_FRAMES);
+	private static final ResourceLocation[] INACTIVE_TEXTURES = createTextures("inactive", INACTIVE_FRAMES);
 	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser = this.createVibrationUser();
 	public int ticksToStopTwitching;
@@ -70,7 +74,6 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	public int ringOutTicksLeft;
 	private int activeTicks;
 	//CLIENT ONLY
-	public ResourceLocation texture = WWConstants.id("textures/entity/hanging_tendril/inactive1.png");
 	public boolean twitching;
 	public boolean active;
 	public boolean milking;
@@ -85,8 +88,9 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	}
 
 	public void serverTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
-		if (this.ticksToStopTwitching <= 0) {
-			level.setBlockAndUpdate(pos, state.setValue(HangingTendrilBlock.TWITCHING, false));
+		if (this.ticksToStopTwitching <= 0 && state.getValue(HangingTendrilBlock.TWITCHING)) {
+			state = state.setValue(HangingTendrilBlock.TWITCHING, false);
+			level.setBlockAndUpdate(pos, state);
 		}
 		--this.ticksToStopTwitching;
 		if (this.ringOutTicksLeft >= 0) {
@@ -116,15 +120,27 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.milking = this.ringOutTicksLeft > 0;
 		this.active = !SculkSensorBlock.canActivate(state);
 		++this.ticks;
-		if (milking) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "milk" + (((this.ticks / MILK_ANIM_SPEED) % MILK_FRAMES) + 1) + ".png");
-		} else if (active) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "active" + (((this.ticks / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES) + 1) + ".png");
-		} else if (twitching) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "twitch" + (((this.ticks / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES) + 1) + ".png");
-		} else {
-			this.texture = WWConstants.id(BASE_TEXTURE + "inactive" + (((this.ticks / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES) + 1) + ".png");
+	}
+
+	@NotNull
+	public ResourceLocation getTexture() {
+		if (this.milking) {
+			return MILK_TEXTURES[(this.ticks / MILK_ANIM_SPEED) % MILK_FRAMES];
+		} else if (this.active) {
+			return ACTIVE_TEXTURES[(this.ticks / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES];
+		} else if (this.twitching) {
+			return TWITCHING_TEXTURES[(this.ticks / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES];
+		}
+		return INACTIVE_TEXTURES[(this.ticks / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES];
+	}
+
+	@NotNull
+	private static ResourceLocation[] createTextures(String name, int frames) {
+		ResourceLocation[] textures = new ResourceLocation[frames];
+		for (int i = 0; i < frames; i++) {
+			textures[i] = WWConstants.id(BASE_TEXTURE + name + (i + 1) + ".png");
 		}
+		return textures;
 	}
 
 	public int getStoredXP() {
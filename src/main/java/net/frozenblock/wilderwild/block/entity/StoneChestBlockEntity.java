@@ -62,6 +62,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public static final int MAX_TIME_OPEN = 220;
 	public static final int MAX_TIME_OPEN_ANCIENT = 160;
 	public static final double MIN_PERCENTAGE_OF_TIME_OPEN = 0.2D;
+	private static final int MAX_CLIENT_CATCH_UP_TICKS = 40;
 	private final ContainerOpenersCounter stoneStateManager = new ContainerOpenersCounter() {
 
 		@Override
@@ -95,6 +96,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public boolean closing;
 
 	protected long updateTime;
+	private int lastComparatorOutput;
 
 	public StoneChestBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
 		super(WWBlockEntityTypes.STONE_CHEST, blockPos, blockState);
@@ -105,6 +107,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(serverLevel, pos, state);
 		long gameTime = level.getGameTime();
 		if (gameTime != stoneChest.updateTime) {
+			boolean startedClosing = false;
 			if (stoneChest.cooldownTicks > 0) {
 				--stoneChest.cooldownTicks;
 			}
@@ -112,19 +115,25 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 			if (stoneChest.stillLidTicks > 0) {
 				stoneChest.stillLidTicks -= 1;
 			} else if (stoneChest.openProgress > 0F) {
-				level.updateNeighbourForOutputSignal(pos, stoneChest.getBlockState().getBlock());
-				serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
 				stoneChest.openProgress = Math.max(0F, stoneChest.openProgress - LID_SLAM_INTERVAL);
 				if (!stoneChest.closing) {
 					stoneChest.closing = true;
+					startedClosing = true;
+					serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
 					playSound(serverLevel, pos, state, WWSounds.BLOCK_STONE_CHEST_CLOSE_START, WWSounds.BLOCK_STONE_CHEST_CLOSE_START_UNDERWATER, 0.3F);
 				}
 				if (stoneChest.openProgress <= 0F) {
 					stoneChest.onLidSlam(serverLevel, pos, state, otherChest);
 				}
+				stoneChest.updateComparatorOutput();
 			}
 			stoneChest.updateTime = gameTime;
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			// Clients run the closing curve themselves, so only the start of a slam needs to be sent.
+			if (startedClosing) {
+				stoneChest.syncLidValuesAndUpdate(otherChest);
+			} else {
+				stoneChest.syncLidValues(otherChest);
+			}
 		}
 	}
 
@@ -132,22 +141,41 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(level, pos, state);
 		long gameTime = level.getGameTime();
 		if (gameTime != stoneChest.updateTime) {
-			stoneChest.prevOpenProgress = stoneChest.openProgress;
-			if (stoneChest.cooldownTicks > 0) {
-				--stoneChest.cooldownTicks;
-			}
-			if (stoneChest.stillLidTicks > 0) {
-				stoneChest.stillLidTicks -= 1;
-			} else if (stoneChest.openProgress > 0F) {
-				stoneChest.closing = true;
-				stoneChest.openProgress = Math.max(0F, stoneChest.openProgress - LID_SLAM_INTERVAL);
-				if (stoneChest.openProgress <= 0F) {
-					stoneChest.onLidSlam(level, pos, state, otherChest);
-				}
-			}
+			stoneChest.clientLidStep(level, pos, state, otherChest);
 			stoneChest.updateTime = gameTime;
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			stoneChest.syncLidValues(otherChest);
+		}
+	}
+
+	private void clientLidStep(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @Nullable StoneChestBlockEntity otherChest) {
+		this.prevOpenProgress = this.openProgress;
+		if (this.cooldownTicks > 0) {
+			--this.cooldownTicks;
 		}
+		if (this.stillLidTicks > 0) {
+			this.stillLidTicks -= 1;
+		} else if (this.openProgress > 0F) {
+			this.closing = true;
+			this.openProgress = Math.max(0F, this.openProgress - LID_SLAM_INTERVAL);
+			if (this.openProgress <= 0F) {
+				this.onLidSlam(level, pos, state, otherChest);
+			}
+		}
+	}
+
+	/**
+	 * Replays the lid ticks a client missed between the server sending a lid event and the client receiving it.
+	 */
+	public void catchUpLid(@NotNull Level level, long eventTime) {
+		BlockPos pos = this.getBlockPos();
+		BlockState state = this.getBlockState();
+		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(level, pos, state);
+		long missedTicks = Math.min(level.getGameTime() - eventTime, MAX_CLIENT_CATCH_UP_TICKS);
+		for (long i = 0; i < missedTicks; i++) {
+			this.clientLidStep(level, pos, state, otherChest);
+		}
+		this.updateTime = level.getGameTime();
+		this.syncLidValues(otherChest);
 	}
 
 	public static void playSound(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull SoundEvent soundEvent, @NotNull SoundEvent waterloggedSoundEvent, float volume) {
@@ -175,6 +203,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.stillLidTicks = tag.getInt("stillLidTicks");
 		this.cooldownTicks = tag.getInt("cooldownTicks");
 		this.closing = tag.getBoolean("closing");
+		this.lastComparatorOutput = this.getComparatorOutput();
 	}
 
 	@Override
@@ -195,24 +224,30 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.openProgress = Mth.clamp(this.openProgress + (!ancient ? liftAmount * 2F : liftAmount), 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * (!ancient ? MAX_TIME_OPEN : MAX_TIME_OPEN_ANCIENT) * WWBlockConfig.get().stoneChest.getStoneChestTimer());
-		if (this.level != null) {
-			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
-		}
+		this.updateComparatorOutput();
 	}
 
 	public void setLid(float liftAmount) {
 		this.openProgress = Mth.clamp(liftAmount, 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * MAX_TIME_OPEN_ANCIENT * WWBlockConfig.get().stoneChest.getStoneChestTimer());
-		if (this.level != null) {
-			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
-		}
+		this.updateComparatorOutput();
 	}
 
 	public int getComparatorOutput() {
 		return (int) (this.openProgress * 30F);
 	}
 
+	private void updateComparatorOutput() {
+		int comparatorOutput = this.getComparatorOutput();
+		if (comparatorOutput != this.lastComparatorOutput) {
+			this.lastComparatorOutput = comparatorOutput;
+			if (this.level != null && !this.level.isClientSide) {
+				this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
+			}
+		}
+	}
+
 	public void onLidSlam(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @Nullable StoneChestBlockEntity otherStoneChest) {
 		if (!level.isClientSide && level instanceof ServerLevel server) {
 			if (this.highestLidPoint > 0.2F) {
@@ -259,22 +294,14 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	}
 
 	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest) {
-		boolean shouldSend = !this.level.isClientSide && this.openProgress != this.prevOpenProgress;
-		if (otherStoneChest != null) {
-			this.syncValues(otherStoneChest);
-			if (shouldSend) {
-				WWStoneChestLidPacket.sendToAll(otherStoneChest);
-			}
-		}
-		if (shouldSend) {
+		this.syncLidValues(otherStoneChest);
+		if (this.level != null && !this.level.isClientSide) {
 			WWStoneChestLidPacket.sendToAll(this);
 		}
 	}
 
-	private void syncValues(@NotNull StoneChestBlockEntity otherStoneChest) {
-		if (otherStoneChest.openProgress != this.openProgress && this.level != null) {
-			this.level.updateNeighbourForOutputSignal(otherStoneChest.getBlockPos(), otherStoneChest.getBlockState().getBlock());
-		}
+	public void syncLidValues(@Nullable StoneChestBlockEntity otherStoneChest) {
+		if (otherStoneChest == null) return;
 		otherStoneChest.openProgress = this.openProgress;
 		otherStoneChest.prevOpenProgress = this.prevOpenProgress;
 		otherStoneChest.highestLidPoint = this.highestLidPoint;
@@ -282,6 +309,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		otherStoneChest.cooldownTicks = this.cooldownTicks;
 		otherStoneChest.closing = this.closing;
 		otherStoneChest.updateTime = this.updateTime;
+		otherStoneChest.updateComparatorOutput();
 	}
 
 	@Override
@@ -40,7 +40,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public class TermiteMoundBlockEntity extends BlockEntity {
 
@@ -65,17 +64,18 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 	}
 
 	public void tickClient() {
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			int termiteID = termite.getID();
+		int termiteCount = this.termiteManager.termiteCount();
+		for (int i = 0; i < termiteCount; i++) {
+			int termiteID = this.termiteManager.getTermiteID(i);
 			if (clientTermiteIDs.contains(termiteID) && !this.prevClientTermiteIDs.contains(termiteID)) {
-				addTermiteSound(this, termiteID, termite.getEating());
+				addTermiteSound(this, termiteID, this.termiteManager.isTermiteEating(i));
 			}
 		}
 		this.prevClientTermiteIDs.clear();
 		this.prevClientTermiteIDs.addAll(this.clientTermiteIDs);
 		this.clientTermiteIDs.clear();
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			this.clientTermiteIDs.add(termite.getID());
+		for (int i = 0; i < termiteCount; i++) {
+			this.clientTermiteIDs.add(this.termiteManager.getTermiteID(i));
 		}
 	}
 
@@ -138,16 +138,11 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 			this.eating = eating;
 		}
 
-		@Nullable
-		public TermiteManager.Termite getTermite() {
+		public int getTermiteIndex() {
 			if (this.mound != null && !this.mound.isRemoved()) {
-				for (TermiteManager.Termite termite : this.mound.termiteManager.termites()) {
-					if (termite.getID() == this.termiteID) {
-						return termite;
-					}
-				}
+				return this.mound.termiteManager.indexOfTermite(this.termiteID);
 			}
-			return null;
+			return -1;
 		}
 
 		@Override
@@ -157,13 +152,13 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 
 		@Override
 		public void tick() {
-			TermiteManager.Termite termite = this.getTermite();
-			if (termite != null) {
-				BlockPos pos = termite.getPos();
-				this.x = pos.getX();
-				this.y = pos.getY();
-				this.z = pos.getZ();
-				if (termite.getEating() != this.eating) {
+			int termiteIndex = this.getTermiteIndex();
+			if (termiteIndex != -1) {
+				long pos = this.mound.termiteManager.getTermitePos(termiteIndex);
+				this.x = BlockPos.getX(pos);
+				this.y = BlockPos.getY(pos);
+				this.z = BlockPos.getZ(pos);
+				if (this.mound.termiteManager.isTermiteEating(termiteIndex) != this.eating) {
 					this.mound.clientTermiteIDs.removeIf((i -> i == this.termiteID));
 					this.stop();
 				}
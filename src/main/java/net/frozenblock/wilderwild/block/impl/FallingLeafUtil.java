@@ -18,15 +18,13 @@
 
 package net.frozenblock.wilderwild.block.impl;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
-import net.frozenblock.wilderwild.entity.FallingLeafTicker;
 import net.frozenblock.wilderwild.particle.options.LeafClusterParticleOptions;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
-import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -35,6 +33,8 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.ParticleUtils;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -45,8 +45,11 @@ import org.jetbrains.annotations.Nullable;
 
 public class FallingLeafUtil {
 	private static final LeafParticleData DEFAULT_LEAF_PARTICLE_DATA = new LeafParticleData(Blocks.OAK_LEAVES, 0.0125F, () -> 1D, 0.125F, 3F);
-	private static final Map<Block, FallingLeafData> LEAVES_TO_FALLING_LEAF_DATA = new Object2ObjectLinkedOpenHashMap<>();
-	private static final Map<ParticleType<LeafParticleOptions>, LeafParticleData> PARTICLE_TO_LEAF_PARTICLE_DATA = new Object2ObjectLinkedOpenHashMap<>();
+	private static final Map<Block, FallingLeafData> LEAVES_TO_FALLING_LEAF_DATA = new Reference2ObjectOpenHashMap<>();
+	private static final Map<ParticleType<LeafParticleOptions>, LeafParticleData> PARTICLE_TO_LEAF_PARTICLE_DATA = new Reference2ObjectOpenHashMap<>();
+	private static final byte TOP_FACE_UNKNOWN = 0;
+	private static final byte TOP_FACE_FULL = 1;
+	private static final byte TOP_FACE_NOT_FULL = 2;
 
 	public static void registerFallingLeafWithLitter(
 		Block block,
@@ -83,8 +86,9 @@ public class FallingLeafUtil {
 		}
 	}
 
-	public static Optional<FallingLeafData> getFallingLeafData(Block block) {
-		return Optional.ofNullable(LEAVES_TO_FALLING_LEAF_DATA.get(block));
+	@Nullable
+	public static FallingLeafData getFallingLeafData(Block block) {
+		return LEAVES_TO_FALLING_LEAF_DATA.get(block);
 	}
 
 	public static LeafParticleData getLeafParticleData(ParticleType<LeafParticleOptions> leafParticle) {
@@ -93,14 +97,10 @@ public class FallingLeafUtil {
 
 	public static void onRandomTick(@NotNull BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
 		if (state.getValue(LeavesBlock.DISTANCE) < 7 && !state.getValue(LeavesBlock.PERSISTENT)) {
-			Block block = state.getBlock();
-
-			Optional<FallingLeafUtil.FallingLeafData> optionalFallingLeafData = FallingLeafUtil.getFallingLeafData(block);
-			if (optionalFallingLeafData.isPresent()) {
-				FallingLeafUtil.FallingLeafData fallingLeafData = optionalFallingLeafData.get();
+			FallingLeafUtil.FallingLeafData fallingLeafData = FallingLeafUtil.getFallingLeafData(state.getBlock());
+			if (fallingLeafData != null) {
 				BlockPos belowPos = pos.below();
-				BlockState belowState = world.getBlockState(belowPos);
-				if (!Block.isFaceFull(belowState.getCollisionShape(world, belowPos), Direction.UP)) {
+				if (!isTopFaceFull(world.getBlockState(belowPos), world, belowPos)) {
 					if (random.nextFloat() <= fallingLeafData.litterChance()) {
 						world.sendParticles(
 							new BlockParticleOption(ParticleTypes.BLOCK, state),
@@ -112,18 +112,32 @@ public class FallingLeafUtil {
 							0.05D
 						);
 						sendLeafClusterParticle(world, pos, fallingLeafData);
-						fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
-							WWEntityTypes.FALLING_LEAVES,
-							world,
-							pos,
-							leafLitterBlock
-						));
+						fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLitterSimulator.get(world).add(world, pos, leafLitterBlock));
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Whether the top face of a state's collision shape is full.
+	 * <p>
+	 * Blocks without a dynamic shape have the same collision shape everywhere, so their answer is stored on the state after the first lookup.
+	 */
+	public static boolean isTopFaceFull(@NotNull BlockState state, @NotNull BlockGetter level, @NotNull BlockPos pos) {
+		TopFaceCacheInterface cache = (TopFaceCacheInterface) state;
+		byte topFaceFull = cache.wilderWild$getTopFaceFull();
+		if (topFaceFull == TOP_FACE_UNKNOWN) {
+			if (state.getBlock().hasDynamicShape()) {
+				return Block.isFaceFull(state.getCollisionShape(level, pos), Direction.UP);
+			}
+			boolean full = Block.isFaceFull(state.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO), Direction.UP);
+			topFaceFull = full ? TOP_FACE_FULL : TOP_FACE_NOT_FULL;
+			cache.wilderWild$setTopFaceFull(topFaceFull);
+		}
+		return topFaceFull == TOP_FACE_FULL;
+	}
+
 	public static void sendLeafClusterParticle(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull FallingLeafData fallingLeafData) {
 		world.sendParticles(
 			LeafClusterParticleOptions.create(fallingLeafData.particle),
@@ -143,24 +157,23 @@ public class FallingLeafUtil {
 	}
 
 	public static void addFallingLeafParticles(@NotNull BlockState state, Level world, BlockPos pos, RandomSource random) {
-		Optional<FallingLeafUtil.FallingLeafData> optionalFallingLeafData = FallingLeafUtil.getFallingLeafData(state.getBlock());
-		if (optionalFallingLeafData.isPresent()) {
-			FallingLeafUtil.FallingLeafData fallingLeafData = optionalFallingLeafData.get();
-			ParticleType<LeafParticleOptions> leafParticle = fallingLeafData.particle();
-			LeafParticleData leafParticleData = getLeafParticleData(leafParticle);
+		FallingLeafUtil.FallingLeafData fallingLeafData = FallingLeafUtil.getFallingLeafData(state.getBlock());
+		if (fallingLeafData != null) {
+			LeafParticleData leafParticleData = getLeafParticleData(fallingLeafData.particle());
 			if (random.nextFloat() <= leafParticleData.particleChance() * leafParticleData.frequencyModifier().get()) {
 				BlockPos blockPos = pos.below();
-				BlockState blockState = world.getBlockState(blockPos);
-				if (!Block.isFaceFull(blockState.getCollisionShape(world, blockPos), Direction.UP)) {
-					ParticleUtils.spawnParticleBelow(world, pos, random, createLeafParticleOptions(fallingLeafData));
+				if (!isTopFaceFull(world.getBlockState(blockPos), world, blockPos)) {
+					ParticleUtils.spawnParticleBelow(world, pos, random, createLeafParticleOptions(fallingLeafData, leafParticleData));
 				}
 			}
 		}
 	}
 
 	public static @NotNull LeafParticleOptions createLeafParticleOptions(FallingLeafUtil.@NotNull FallingLeafData fallingLeafData) {
-		ParticleType<LeafParticleOptions> leafParticle = fallingLeafData.particle();
-		LeafParticleData leafParticleData = getLeafParticleData(leafParticle);
+		return createLeafParticleOptions(fallingLeafData, getLeafParticleData(fallingLeafData.particle()));
+	}
+
+	private static @NotNull LeafParticleOptions createLeafParticleOptions(FallingLeafUtil.@NotNull FallingLeafData fallingLeafData, @NotNull LeafParticleData leafParticleData) {
 		return LeafParticleOptions.create(fallingLeafData.particle, leafParticleData.quadSize, leafParticleData.particleGravityScale);
 	}
 
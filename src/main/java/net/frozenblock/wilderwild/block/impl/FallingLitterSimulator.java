@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import net.frozenblock.wilderwild.block.LeafLitterBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Simulates leaf litter falling from leaves until it lands, without spawning an entity per drop.
+ * <p>
+ * Each falling leaf is a row in a set of parallel arrays, advanced once per level tick.
+ * The landing height is resolved once, by scanning down the column when the leaf starts falling.
+ */
+public final class FallingLitterSimulator {
+	private static final Map<ServerLevel, FallingLitterSimulator> SIMULATORS = new Reference2ObjectOpenHashMap<>();
+	private static final double INITIAL_VELOCITY = -0.05D;
+	private static final double GRAVITY = 0.04D;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+	private int[] x = new int[INITIAL_CAPACITY];
+	private int[] z = new int[INITIAL_CAPACITY];
+	private int[] landingY = new int[INITIAL_CAPACITY];
+	private double[] y = new double[INITIAL_CAPACITY];
+	private double[] velocity = new double[INITIAL_CAPACITY];
+	private LeafLitterBlock[] litter = new LeafLitterBlock[INITIAL_CAPACITY];
+	private int size;
+
+	@NotNull
+	public static FallingLitterSimulator get(@NotNull ServerLevel level) {
+		return SIMULATORS.computeIfAbsent(level, serverLevel -> new FallingLitterSimulator());
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		FallingLitterSimulator simulator = SIMULATORS.get(level);
+		if (simulator != null) simulator.tick(level);
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		SIMULATORS.remove(level);
+	}
+
+	public static void clear() {
+		SIMULATORS.clear();
+	}
+
+	public void add(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull LeafLitterBlock leafLitter) {
+		int landing = this.findLandingY(level, pos);
+		if (landing == Integer.MIN_VALUE) return;
+
+		if (this.size == this.x.length) {
+			int capacity = this.size * 2;
+			this.x = Arrays.copyOf(this.x, capacity);
+			this.z = Arrays.copyOf(this.z, capacity);
+			this.landingY = Arrays.copyOf(this.landingY, capacity);
+			this.y = Arrays.copyOf(this.y, capacity);
+			this.velocity = Arrays.copyOf(this.velocity, capacity);
+			this.litter = Arrays.copyOf(this.litter, capacity);
+		}
+		int index = this.size++;
+		this.x[index] = pos.getX();
+		this.z[index] = pos.getZ();
+		this.landingY[index] = landing;
+		this.y[index] = pos.getY();
+		this.velocity[index] = INITIAL_VELOCITY;
+		this.litter[index] = leafLitter;
+	}
+
+	/**
+	 * Finds the y of the block the litter would be placed in, or {@link Integer#MIN_VALUE} if it falls out of the world.
+	 * <p>
+	 * Like the collider raycast falling leaves used before, this stops on the first block below with a collision shape or fluid.
+	 * That includes lower leaves, where litter cannot survive, so those drops are still lost.
+	 */
+	private int findLandingY(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		BlockPos.MutableBlockPos mutablePos = this.mutablePos.set(pos.getX(), pos.getY() - 1, pos.getZ());
+		int minY = level.getMinBuildHeight();
+		while (mutablePos.getY() >= minY) {
+			BlockState state = level.getBlockState(mutablePos);
+			if (!state.getFluidState().isEmpty() || !state.getCollisionShape(level, mutablePos).isEmpty()) {
+				return mutablePos.getY() + 1;
+			}
+			mutablePos.move(0, -1, 0);
+		}
+		return Integer.MIN_VALUE;
+	}
+
+	private void tick(@NotNull ServerLevel level) {
+		int minY = level.getMinBuildHeight();
+		int index = 0;
+		while (index < this.size) {
+			this.velocity[index] -= GRAVITY;
+			double newY = this.y[index] + this.velocity[index];
+			this.y[index] = newY;
+			if (newY <= this.landingY[index]) {
+				this.land(level, index);
+				this.remove(index);
+			} else if (newY <= minY) {
+				this.remove(index);
+			} else {
+				++index;
+			}
+		}
+	}
+
+	private void land(@NotNull ServerLevel level, int index) {
+		BlockPos placePos = new BlockPos(this.x[index], this.landingY[index], this.z[index]);
+		if (!level.isLoaded(placePos)) return;
+
+		LeafLitterBlock leafLitter = this.litter[index];
+		BlockState stateToReplace = level.getBlockState(placePos);
+		if (FallingLeafUtil.isSafePosToPlaceLitter(level, placePos, stateToReplace, leafLitter)) {
+			BlockState litterState = leafLitter.defaultBlockState();
+			level.setBlockAndUpdate(placePos, litterState);
+			level.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, litterState),
+				placePos.getX() + 0.5D,
+				placePos.getY() + 0.1D,
+				placePos.getZ() + 0.5D,
+				level.random.nextInt(8, 18),
+				0.3D, 0D, 0.3D,
+				0.05D
+			);
+		}
+	}
+
+	private void remove(int index) {
+		int last = --this.size;
+		if (index != last) {
+			this.x[index] = this.x[last];
+			this.z[index] = this.z[last];
+			this.landingY[index] = this.landingY[last];
+			this.y[index] = this.y[last];
+			this.velocity[index] = this.velocity[last];
+			this.litter[index] = this.litter[last];
+		}
+		this.litter[last] = null;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Answers whether the chunk section at a position could hold mesoglea, using a flag each section keeps from its palette.
+ * <p>
+ * Anything that is not a loaded level chunk is assumed to possibly contain mesoglea.
+ * Calling {@link #invalidate()} after a tag reload makes every section rebuild its flag on its next lookup.
+ */
+public final class MesogleaSections {
+	private static volatile int generation = 1;
+
+	private MesogleaSections() {
+		throw new UnsupportedOperationException("MesogleaSections contains only static declarations.");
+	}
+
+	public static void invalidate() {
+		generation++;
+	}
+
+	public static int getGeneration() {
+		return generation;
+	}
+
+	public static boolean mayContainMesoglea(@NotNull BlockGetter blockGetter, @NotNull BlockPos pos) {
+		if (!(blockGetter instanceof LevelReader level)) return true;
+		ChunkAccess chunk = level.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()), ChunkStatus.FULL, false);
+		if (chunk == null) return true;
+		int sectionIndex = chunk.getSectionIndex(pos.getY());
+		if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) return false;
+		return ((MesogleaSectionInterface) chunk.getSection(sectionIndex)).wilderWild$mayContainMesoglea();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the merged block and snow shapes of a snowlogged {@link BlockState}, built alongside the vanilla state cache.
+ * <p>
+ * Each merged shape is only handed out when the live block shape is the exact instance seen while building,
+ * so blocks whose shapes depend on position or context fall back to merging on the fly.
+ */
+public final class SnowloggedShapeCache {
+	private final BlockState snowEquivalent;
+	private final VoxelShape collisionShape;
+	private final VoxelShape mergedCollisionShape;
+	private final VoxelShape visualShape;
+	private final VoxelShape mergedVisualShape;
+	private final VoxelShape interactionShape;
+	private final VoxelShape mergedInteractionShape;
+	private final VoxelShape blockSupportShape;
+	private final VoxelShape mergedBlockSupportShape;
+	private final VoxelShape occlusionShape;
+	private final VoxelShape mergedOcclusionShape;
+
+	private SnowloggedShapeCache(@NotNull BlockState state) {
+		Block block = state.getBlock();
+		BlockGetter level = EmptyBlockGetter.INSTANCE;
+		BlockPos pos = BlockPos.ZERO;
+		CollisionContext context = CollisionContext.empty();
+		this.snowEquivalent = SnowloggingUtils.getSnowEquivalent(state);
+
+		this.collisionShape = block.getCollisionShape(state, level, pos, context);
+		this.mergedCollisionShape = Shapes.or(this.collisionShape, this.snowEquivalent.getCollisionShape(level, pos, context));
+		this.visualShape = block.getVisualShape(state, level, pos, context);
+		this.mergedVisualShape = Shapes.or(this.visualShape, this.snowEquivalent.getVisualShape(level, pos, context));
+		this.interactionShape = block.getInteractionShape(state, level, pos);
+		this.mergedInteractionShape = Shapes.or(this.interactionShape, this.snowEquivalent.getInteractionShape(level, pos));
+		this.blockSupportShape = block.getBlockSupportShape(state, level, pos);
+		this.mergedBlockSupportShape = Shapes.or(this.blockSupportShape, this.snowEquivalent.getBlockSupportShape(level, pos));
+		this.occlusionShape = block.getOcclusionShape(state, level, pos);
+		this.mergedOcclusionShape = Shapes.or(this.occlusionShape, this.snowEquivalent.getOcclusionShape(level, pos));
+	}
+
+	@Nullable
+	public static SnowloggedShapeCache create(@NotNull BlockState state) {
+		if (!state.hasProperty(SnowloggingUtils.SNOW_LAYERS) || SnowloggingUtils.getSnowLayers(state) <= 0) return null;
+		return new SnowloggedShapeCache(state);
+	}
+
+	@NotNull
+	public BlockState getSnowEquivalent() {
+		return this.snowEquivalent;
+	}
+
+	public VoxelShape getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
+		if (original == this.collisionShape) return this.mergedCollisionShape;
+		return Shapes.or(original, this.snowEquivalent.getCollisionShape(level, pos, context));
+	}
+
+	public VoxelShape getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
+		if (original == this.visualShape) return this.mergedVisualShape;
+		return Shapes.or(original, this.snowEquivalent.getVisualShape(level, pos, context));
+	}
+
+	public VoxelShape getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
+		if (original == this.interactionShape) return this.mergedInteractionShape;
+		return Shapes.or(original, this.snowEquivalent.getInteractionShape(level, pos));
+	}
+
+	public VoxelShape getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
+		if (original == this.blockSupportShape) return this.mergedBlockSupportShape;
+		return Shapes.or(original, this.snowEquivalent.getBlockSupportShape(level, pos));
+	}
+
+	public VoxelShape getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
+		if (original == this.occlusionShape) return this.mergedOcclusionShape;
+		return Shapes.or(original, this.snowEquivalent.getOcclusionShape(level, pos));
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.entity.Firefly;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+public final class FireflySyncCommand {
+	private static int lastQueryTick;
+
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("fireflysyncs")
+			.requires(source -> source.hasPermission(2))
+			.executes(context -> reportSyncs(context.getSource()))
+		);
+	}
+
+	/**
+	 * Clears the sync count and query window, as both only make sense for the server they were recorded on.
+	 */
+	public static void reset() {
+		lastQueryTick = 0;
+		Firefly.getAndResetEntityDataSyncs();
+	}
+
+	private static int reportSyncs(@NotNull CommandSourceStack source) {
+		long syncs = Firefly.getAndResetEntityDataSyncs();
+		int currentTick = source.getServer().getTickCount();
+		int ticks = Math.max(1, currentTick - lastQueryTick);
+		lastQueryTick = currentTick;
+		source.sendSuccess(() -> Component.translatable("commands.fireflysyncs.success", syncs, ticks, String.format("%.2f", (double) syncs / ticks)), false);
+		return (int) Math.min(syncs, Integer.MAX_VALUE);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.entity.Crab;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+public final class PopulationCountCommand {
+
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("populationcounts")
+			.requires(source -> source.hasPermission(2))
+			.executes(context -> compareCounts(context.getSource()))
+		);
+	}
+
+	private static int compareCounts(@NotNull CommandSourceStack source) {
+		ServerLevel level = source.getLevel();
+		int mismatches = 0;
+		mismatches += report(source, "Jellyfish", Jellyfish.getJellyfishPerLevel(level, false), Jellyfish.countJellyfishInLevel(level, false));
+		mismatches += report(source, "Pearlescent Jellyfish", Jellyfish.getJellyfishPerLevel(level, true), Jellyfish.countJellyfishInLevel(level, true));
+		mismatches += report(source, "Crabs", Crab.getCrabsPerLevel(level), Crab.countCrabsInLevel(level));
+		return mismatches;
+	}
+
+	private static int report(@NotNull CommandSourceStack source, String name, int counted, int scanned) {
+		if (counted == scanned) {
+			source.sendSuccess(() -> Component.translatable("commands.populationcounts.match", name, counted), false);
+			return 0;
+		}
+		source.sendFailure(Component.translatable("commands.populationcounts.mismatch", name, counted, scanned));
+		return 1;
+	}
+}
@@ -30,6 +30,7 @@ import net.frozenblock.lib.config.api.sync.SyncBehavior;
 import net.frozenblock.lib.config.api.sync.annotation.EntrySyncData;
 import static net.frozenblock.wilderwild.WWConstants.MOD_ID;
 import net.frozenblock.wilderwild.WWPreLoadConstants;
+import net.frozenblock.wilderwild.entity.ai.TermiteBlockFlags;
 
 public final class WWBlockConfig {
 
@@ -56,6 +57,7 @@ public final class WWBlockConfig {
 				SNOWLOGGING = config.snowlogging.snowlogging && !FabricLoader.getInstance().isModLoaded("antique-atlas");
 				SNOWLOG_WALLS = SNOWLOGGING && config.snowlogging.snowlogWalls;
 				NATURAL_SNOWLOGGING = SNOWLOGGING && config.snowlogging.naturalSnowlogging;
+				TermiteBlockFlags.invalidate();
 				if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
 					Client.MESOGLEA_LIQUID = config.mesoglea.mesogleaLiquid;
 					Client.POLLEN_ENABLED = config.pollenParticles;
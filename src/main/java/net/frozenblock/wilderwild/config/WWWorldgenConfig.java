@@ -67,6 +67,9 @@ public final class WWWorldgenConfig {
 	@EntrySyncData("betaBeaches")
 	public boolean betaBeaches = true;
 
+	@EntrySyncData("reducedBeachNoise")
+	public boolean reducedBeachNoise = false;
+
 	@EntrySyncData("snowUnderMountains")
 	public boolean snowUnderMountains = true;
 
@@ -60,6 +60,19 @@ public final class WWWorldgenConfigGui {
 			)
 		);
 
+		var reducedBeachNoise = category.addEntry(
+			FrozenClothConfig.syncedEntry(
+				entryBuilder.startBooleanToggle(text("reduced_beach_noise"), modifiedConfig.reducedBeachNoise)
+					.setDefaultValue(defaultConfig.reducedBeachNoise)
+					.setSaveConsumer(newValue -> config.reducedBeachNoise = newValue)
+					.setTooltip(tooltip("reduced_beach_noise"))
+					.build(),
+				clazz,
+				"reducedBeachNoise",
+				configInstance
+			)
+		);
+
 		var snowUnderMountains = category.addEntry(
 			FrozenClothConfig.syncedEntry(
 				entryBuilder.startBooleanToggle(text("snow_under_mountains"), modifiedConfig.snowUnderMountains)
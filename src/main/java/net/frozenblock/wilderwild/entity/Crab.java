@@ -20,15 +20,9 @@ package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
-import java.util.function.Supplier;
-import net.frozenblock.lib.block.api.shape.FrozenShapes;
 import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
@@ -109,6 +103,7 @@ import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -133,7 +128,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	private static final double LATCH_TO_WALL_FORCE = 0.0195D;
 	public static final int SPAWN_CHANCE = 30;
 	public static final int SPAWN_CHANCE_COMMON = 90;
-	private static final Map<ServerLevelAccessor, Integer> CRABS_PER_LEVEL = new Object2IntOpenHashMap<>();
+	private static final Object2IntOpenHashMap<ServerLevel> CRABS_PER_LEVEL = new Object2IntOpenHashMap<>();
 	private static final EntityDataAccessor<String> MOVE_STATE = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.STRING);
 	private static final EntityDataAccessor<Float> TARGET_CLIMBING_ANIM_X = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> TARGET_CLIMBING_ANIM_Y = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.FLOAT);
@@ -156,6 +151,10 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	public float prevClimbDirectionAmount;
 	public float climbDirectionAmount;
 	private VibrationSystem.Data vibrationData;
+	private final BlockPos.MutableBlockPos wallSearchPos = new BlockPos.MutableBlockPos();
+	private final WallPointFinder wallPointFinder = new WallPointFinder();
+	@Nullable
+	private ServerLevel countedLevel;
 
 	public Crab(EntityType<? extends Crab> entityType, Level level) {
 		super(entityType, level);
@@ -184,10 +183,23 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 			.add(Attributes.FOLLOW_RANGE, MAX_TARGET_DISTANCE);
 	}
 
-	public static void clearLevelToCrabCount() {
+	public static void clearCrabsPerLevel() {
 		CRABS_PER_LEVEL.clear();
 	}
 
+	public void startCounting(@NotNull ServerLevel level) {
+		this.stopCounting();
+		this.countedLevel = level;
+		CRABS_PER_LEVEL.addTo(level, 1);
+	}
+
+	public void stopCounting() {
+		if (this.countedLevel != null) {
+			CRABS_PER_LEVEL.addTo(this.countedLevel, -1);
+			this.countedLevel = null;
+		}
+	}
+
 	public static boolean checkCrabSpawnRules(@NotNull EntityType<Crab> type, @NotNull ServerLevelAccessor level, @NotNull MobSpawnType spawnType, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		if (MobSpawnType.isSpawner(spawnType)) return true;
 		if (!WWEntityConfig.get().crab.spawnCrabs) return false;
@@ -204,17 +216,16 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	}
 
 	public static int getCrabsPerLevel(@NotNull ServerLevel level) {
+		return CRABS_PER_LEVEL.getInt(level);
+	}
+
+	public static int countCrabsInLevel(@NotNull ServerLevel level) {
 		AtomicInteger count = new AtomicInteger();
-		if (!CRABS_PER_LEVEL.containsKey(level)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Crab) {
-					count.addAndGet(1);
-				}
-			});
-			CRABS_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(CRABS_PER_LEVEL.get(level));
-		}
+		EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
+			if (entity instanceof Crab) {
+				count.addAndGet(1);
+			}
+		});
 		return count.get();
 	}
 
@@ -333,7 +344,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 			if (this.horizontalCollision) {
 				Vec3 usedMovement = this.getDeltaMovement();
 				this.setMoveState(this.getDeltaPos().y() >= 0 ? MoveState.CLIMBING : MoveState.DESCENDING);
-				if (this.isCrabDescending() && this.level().noBlockCollision(this, this.makeBoundingBox().expandTowards(0D, -this.getEmptyAreaSearchDistance(), 0D))) {
+				if (this.isCrabDescending() && this.hasEmptyAreaBelow()) {
 					this.cancelMovementToDescend = this.latchOntoWall(LATCH_TO_WALL_FORCE, false);
 				} else if (!this.onGround()) {
 					//this.latchOntoWall(LATCH_TO_WALL_FORCE, false);
@@ -354,7 +365,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 				this.setMoveState(MoveState.WALKING);
 				this.setTargetClimbAnimX(0F);
 				if (!this.onGround() && !this.isInWater()) {
-					if (this.level().noBlockCollision(this, this.makeBoundingBox().expandTowards(0D, -this.getEmptyAreaSearchDistance(), 0D))) {
+					if (this.hasEmptyAreaBelow()) {
 						this.cancelMovementToDescend = this.latchOntoWall(LATCH_TO_WALL_FORCE, false);
 					}
 				}
@@ -378,8 +389,8 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 				}
 			}
 			this.prevClimbAnimX = this.climbAnimX;
-			Supplier<Float> climbingVal = () -> (Math.cos(this.targetClimbAnimX() * Mth.PI) >= -0.275F ? -1F : 1F) * (this.isCrabClimbing() ? 1F : -1F);
-			this.climbAnimX += ((this.onClimbable() ? climbingVal.get() : 0F) - this.climbAnimX) * 0.2F;
+			float climbingVal = this.onClimbable() ? (Math.cos(this.targetClimbAnimX() * Mth.PI) >= -0.275F ? -1F : 1F) * (this.isCrabClimbing() ? 1F : -1F) : 0F;
+			this.climbAnimX += (climbingVal - this.climbAnimX) * 0.2F;
 			this.prevClimbAnimY = this.climbAnimY;
 			this.climbAnimY += ((this.onClimbable() ? this.getClimbingFace().rotation : 0F) - this.climbDirectionAmount) * 0.2F;
 			this.prevClimbDirectionAmount = this.climbDirectionAmount;
@@ -420,38 +431,54 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		return this.isBaby() ? 0.8D : 2D;
 	}
 
+	private boolean hasEmptyAreaBelow() {
+		return this.level().noBlockCollision(this, this.getBoundingBox().expandTowards(0D, -this.getEmptyAreaSearchDistance(), 0D));
+	}
+
 	@Nullable
 	public Vec3 findNearestWall() {
+		Level level = this.level();
 		BlockPos crabPos = this.blockPosition();
-		ArrayList<Vec3> vecs = new ArrayList<>();
-		for (BlockPos pos : BlockPos.betweenClosed(crabPos.offset(-1, 0, -1), crabPos.offset(1, 0, 1))) {
-			BlockState state = this.level().getBlockState(pos);
-			VoxelShape collisionShape = state.getCollisionShape(this.level(), pos, CollisionContext.of(this));
-			if (isWallPosSlowable(pos, state, collisionShape)) {
-				Optional<Vec3> optionalVec3 = FrozenShapes.closestPointTo(pos, collisionShape, this.position());
-				if (optionalVec3.isPresent()) {
-					vecs.add(optionalVec3.get());
+		BlockPos.MutableBlockPos mutablePos = this.wallSearchPos;
+		CollisionContext collisionContext = null;
+		double eyeY = this.getEyeY();
+		boolean found = false;
+		double closestX = 0D;
+		double closestY = 0D;
+		double closestZ = 0D;
+		double closestDistance = Double.MAX_VALUE;
+		for (int zOffset = -1; zOffset <= 1; zOffset++) {
+			for (int xOffset = -1; xOffset <= 1; xOffset++) {
+				mutablePos.setWithOffset(crabPos, xOffset, 0, zOffset);
+				BlockState state = level.getBlockState(mutablePos);
+				// Air and lava are never walls, so skip them before looking up any shape.
+				if (state.isAir() || state.getFluidState().is(FluidTags.LAVA)) continue;
+				if (collisionContext == null) collisionContext = CollisionContext.of(this);
+				VoxelShape collisionShape = state.getCollisionShape(level, mutablePos, collisionContext);
+				if (!this.isWallPosSlowable(mutablePos, state, collisionShape)) continue;
+
+				WallPointFinder wallPointFinder = this.wallPointFinder;
+				if (!collisionShape.isEmpty()) {
+					wallPointFinder.find(mutablePos, collisionShape, this.getX(), this.getY(), this.getZ());
 				} else if (state.getFluidState().is(FluidTags.WATER)) {
-					vecs.add(pos.getCenter());
+					wallPointFinder.set(mutablePos.getX() + 0.5D, mutablePos.getY() + 0.5D, mutablePos.getZ() + 0.5D);
+				} else {
+					continue;
+				}
+				double xDifference = wallPointFinder.x - this.getX();
+				double yDifference = wallPointFinder.y - eyeY;
+				double zDifference = wallPointFinder.z - this.getZ();
+				double distance = xDifference * xDifference + yDifference * yDifference + zDifference * zDifference;
+				if (distance < closestDistance) {
+					closestDistance = distance;
+					closestX = wallPointFinder.x;
+					closestY = wallPointFinder.y;
+					closestZ = wallPointFinder.z;
+					found = true;
 				}
 			}
 		}
-		return getClosestPos(vecs);
-	}
-
-	@Nullable
-	public Vec3 getClosestPos(@NotNull List<Vec3> vec3s) {
-		double lowestDistance = Double.MAX_VALUE;
-		Vec3 selectedVec3 = null;
-		Vec3 thisPos = this.getEyePosition();
-		for (Vec3 vec3 : vec3s) {
-			double distance = vec3.distanceTo(thisPos);
-			if (distance < lowestDistance) {
-				lowestDistance = distance;
-				selectedVec3 = vec3;
-			}
-		}
-		return selectedVec3;
+		return found ? new Vec3(closestX, closestY, closestZ) : null;
 	}
 
 	public boolean isWallPosSlowable(@NotNull BlockPos pos, @NotNull BlockState state, @NotNull VoxelShape collisionShape) {
@@ -952,4 +979,52 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 
 		}
 	}
+
+	/**
+	 * Finds the point of a block's collision shape closest to the crab, reused between searches to avoid allocations.
+	 */
+	private static final class WallPointFinder implements Shapes.DoubleLineConsumer {
+		private double offsetX;
+		private double offsetY;
+		private double offsetZ;
+		private double targetX;
+		private double targetY;
+		private double targetZ;
+		private double closestDistance;
+		private double x;
+		private double y;
+		private double z;
+
+		private void find(@NotNull BlockPos pos, @NotNull VoxelShape shape, double targetX, double targetY, double targetZ) {
+			this.offsetX = pos.getX();
+			this.offsetY = pos.getY();
+			this.offsetZ = pos.getZ();
+			this.targetX = targetX;
+			this.targetY = targetY;
+			this.targetZ = targetZ;
+			this.closestDistance = Double.MAX_VALUE;
+			shape.forAllBoxes(this);
+		}
+
+		private void set(double x, double y, double z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+
+		@Override
+		public void consume(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+			double x = Mth.clamp(this.targetX, minX + this.offsetX, maxX + this.offsetX);
+			double y = Mth.clamp(this.targetY, minY + this.offsetY, maxY + this.offsetY);
+			double z = Mth.clamp(this.targetZ, minZ + this.offsetZ, maxZ + this.offsetZ);
+			double xDifference = x - this.targetX;
+			double yDifference = y - this.targetY;
+			double zDifference = z - this.targetZ;
+			double distance = xDifference * xDifference + yDifference * yDifference + zDifference * zDifference;
+			if (distance < this.closestDistance) {
+				this.closestDistance = distance;
+				this.set(x, y, z);
+			}
+		}
+	}
 }
@@ -18,7 +18,6 @@
 
 package net.frozenblock.wilderwild.entity;
 
-import java.util.Optional;
 import net.frozenblock.lib.entity.api.SilentTicker;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
@@ -69,8 +68,10 @@ public class FallingLeafTicker extends SilentTicker {
 				if (!this.hasVisibleLeaves) {
 					this.hasVisibleLeaves = true;
 					if (this.leafLitter instanceof LeafLitterBlock litterBlock) {
-						Optional<FallingLeafUtil.FallingLeafData> optionalFallingLeafData = FallingLeafUtil.getFallingLeafData(litterBlock.getLeavesBlock());
-						optionalFallingLeafData.ifPresent(fallingLeafData -> FallingLeafUtil.sendLeafClusterParticle(serverLevel, pos, fallingLeafData));
+						FallingLeafUtil.FallingLeafData fallingLeafData = FallingLeafUtil.getFallingLeafData(litterBlock.getLeavesBlock());
+						if (fallingLeafData != null) {
+							FallingLeafUtil.sendLeafClusterParticle(serverLevel, pos, fallingLeafData);
+						}
 					}
 				}
 				this.yd -= 0.04D;
@@ -18,9 +18,12 @@
 
 package net.frozenblock.wilderwild.entity;
 
+import com.google.common.collect.ImmutableMap;
 import com.mojang.serialization.Dynamic;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.math.api.AdvancedMath;
@@ -35,11 +38,14 @@ import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.DebugPackets;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
@@ -97,17 +103,28 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	protected static final List<MemoryModuleType<?>> MEMORY_MODULES = List.of(MemoryModuleType.PATH, MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES, MemoryModuleType.WALK_TARGET, MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE, MemoryModuleType.LOOK_TARGET, MemoryModuleType.HOME);
 	private static final EntityDataAccessor<Boolean> FROM_BOTTLE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> FLICKERS = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
-	private static final EntityDataAccessor<Integer> AGE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.INT);
+	private static final EntityDataAccessor<Integer> FLICKER_SEED = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.INT);
 	private static final EntityDataAccessor<Float> ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
-	private static final EntityDataAccessor<Float> PREV_ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
+	private static final EntityDataAccessor<Long> ANIM_SCALE_TIME = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.LONG);
+	private static final EntityDataAccessor<Boolean> DESPAWNING = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<String> COLOR = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.STRING);
 
+	private static long entityDataSyncs;
+	private static final WindFieldCache WIND_FIELD = new WindFieldCache(
+		(level, pos) -> WindManager.getWindManager((ServerLevel) level).getWindMovement(pos, 1D, 100D, 100D),
+		WindFieldCache::getServerDisturbances
+	);
+
 	public boolean natural;
 	public boolean hasHome;
-	public boolean despawning;
 	public int homeCheckCooldown;
 	public boolean wasNamedNectar;
 	public boolean shouldCheckSpawn = true;
+	// Recomputed whenever the synced custom name changes, on both sides.
+	private boolean nectar;
+	// Flicker age and animation scale are derived from the game time on both sides; only transitions are synced.
+	private float animScale = 1.5F;
+	private float prevAnimScale = 1.5F;
 
 	public Firefly(@NotNull EntityType<? extends Firefly> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -117,9 +134,12 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		this.setPathfindingMalus(PathType.WATER_BORDER, 16F);
 		this.setPathfindingMalus(PathType.UNPASSABLE_RAIL, 0F);
 		this.moveControl = new FlyingMoveControl(this, 20, true);
-		this.setFlickers(this.random.nextInt(FLICKERS_CHANCE) == 0);
-		this.setFlickerAge(this.random.nextIntBetweenInclusive(0, RANDOM_FLICKER_AGE_MAX));
-		this.setAnimScale(1.5F);
+		// Synced values are only rolled on the server, as a client keeps its own value for anything the server leaves at its default.
+		if (!level.isClientSide) {
+			this.setFlickers(this.random.nextInt(FLICKERS_CHANCE) == 0);
+			this.setFlickerSeed(this.random.nextIntBetweenInclusive(0, RANDOM_FLICKER_AGE_MAX));
+			this.setAnimScale(1.5F);
+		}
 		this.setColor(FireflyColor.ON);
 	}
 
@@ -183,12 +203,33 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		super.defineSynchedData(builder);
 		builder.define(FROM_BOTTLE, false);
 		builder.define(FLICKERS, false);
-		builder.define(AGE, 0);
+		builder.define(FLICKER_SEED, 0);
 		builder.define(ANIM_SCALE, 1.5F);
-		builder.define(PREV_ANIM_SCALE, 1.5F);
+		builder.define(ANIM_SCALE_TIME, 0L);
+		builder.define(DESPAWNING, false);
 		builder.define(COLOR, FireflyColor.ON.key().toString());
 	}
 
+	@Override
+	public void onSyncedDataUpdated(@NotNull EntityDataAccessor<?> key) {
+		super.onSyncedDataUpdated(key);
+		if (ANIM_SCALE.equals(key) || ANIM_SCALE_TIME.equals(key) || DESPAWNING.equals(key)) {
+			this.animScale = this.computeAnimScale(this.level().getGameTime());
+			this.prevAnimScale = this.animScale;
+		} else if (DATA_CUSTOM_NAME.equals(key)) {
+			Component customName = this.getCustomName();
+			this.nectar = customName != null && isNectarName(customName.getString());
+		}
+	}
+
+	public static boolean isNectarName(@NotNull String name) {
+		return name.toLowerCase().contains("nectar");
+	}
+
+	public boolean isNectar() {
+		return this.nectar;
+	}
+
 	@Override
 	public boolean dampensVibrations() {
 		return true;
@@ -197,7 +238,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	@Override
 	@NotNull
 	protected InteractionResult mobInteract(@NotNull Player player, @NotNull InteractionHand hand) {
-		return !this.despawning ? tryCapture(player, hand).orElse(super.mobInteract(player, hand)) : InteractionResult.PASS;
+		return !this.isDespawning() ? tryCapture(player, hand).orElse(super.mobInteract(player, hand)) : InteractionResult.PASS;
 	}
 
 	@NotNull
@@ -269,27 +310,67 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	}
 
 	public int getFlickerAge() {
-		return this.entityData.get(AGE);
+		return (int) this.level().getGameTime() + this.entityData.get(FLICKER_SEED);
 	}
 
-	public void setFlickerAge(int value) {
-		this.entityData.set(AGE, value);
+	public void setFlickerSeed(int value) {
+		this.entityData.set(FLICKER_SEED, value);
 	}
 
 	public float getAnimScale() {
-		return this.entityData.get(ANIM_SCALE);
+		return this.animScale;
 	}
 
+	/**
+	 * Starts a new scale animation from the given scale at the current game time.
+	 */
 	public void setAnimScale(float value) {
+		this.animScale = value;
 		this.entityData.set(ANIM_SCALE, value);
+		this.entityData.set(ANIM_SCALE_TIME, this.level().getGameTime());
+	}
+
+	/**
+	 * Replays the scale animation from the last synced transition, so every side agrees on the scale at a given game time.
+	 */
+	private float computeAnimScale(long gameTime) {
+		float startScale = this.entityData.get(ANIM_SCALE);
+		long elapsed = Math.max(0L, gameTime - this.entityData.get(ANIM_SCALE_TIME));
+		if (this.isDespawning()) {
+			return startScale - 0.5F * elapsed;
+		} else if (startScale < 1.5F) {
+			return Math.min(startScale + 0.025F * elapsed, 1.5F);
+		}
+		return startScale;
 	}
 
 	public float getPrevAnimScale() {
-		return this.entityData.get(PREV_ANIM_SCALE);
+		return this.prevAnimScale;
 	}
 
 	public void setPrevAnimScale(float value) {
-		this.entityData.set(PREV_ANIM_SCALE, value);
+		this.prevAnimScale = value;
+	}
+
+	public boolean isDespawning() {
+		return this.entityData.get(DESPAWNING);
+	}
+
+	public void setDespawning(boolean value) {
+		if (value != this.isDespawning()) {
+			this.setAnimScale(this.animScale);
+			this.entityData.set(DESPAWNING, value);
+		}
+	}
+
+	public static void onEntityDataSent() {
+		++entityDataSyncs;
+	}
+
+	public static long getAndResetEntityDataSyncs() {
+		long syncs = entityDataSyncs;
+		entityDataSyncs = 0L;
+		return syncs;
 	}
 
 	public FireflyColor getColor() {
@@ -390,7 +471,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 
 		if (this.shouldCheckSpawn) {
 			if (!this.isFromBottle()) {
-				FireflyColor biomeColor = FireflyBiomeColorRegistry.getBiomeColor(this.level().getBiome(this.blockPosition()));
+				FireflyColor biomeColor = FireflyBiomeColorRegistry.getBiomeColor(this.level().getBiome(this.blockPosition()), this.random);
 				if (biomeColor != null) {
 					this.setColor(biomeColor);
 				}
@@ -398,9 +479,9 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 			this.shouldCheckSpawn = false;
 		}
 
-		boolean nectar = this.hasCustomName() && Objects.requireNonNull(this.getCustomName()).getString().toLowerCase().contains("nectar");
 		if (this.level() instanceof ServerLevel server) {
-			if (nectar != wasNamedNectar) {
+			boolean nectar = this.nectar;
+			if (nectar != this.wasNamedNectar) {
 				if (nectar) {
 					FrozenSoundPackets.createMovingRestrictionLoopingSound(
 						server,
@@ -422,7 +503,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		if (!this.isAlive()) {
 			this.setNoGravity(false);
 		}
-		this.setFlickerAge(this.getFlickerAge() + 1);
 
 		if (this.hasHome) {
 			if (this.homeCheckCooldown > 0) {
@@ -438,19 +518,14 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 			}
 		}
 
-		this.setPrevAnimScale(this.getAnimScale());
-
-		if (this.despawning) {
-			this.setAnimScale(this.getAnimScale() - 0.5F);
-			if (this.getAnimScale() < 0F) {
-				this.discard();
-			}
-		} else if (this.getAnimScale() < 1.5F) {
-			this.setAnimScale(Math.min(this.getAnimScale() + 0.025F, 1.5F));
+		this.prevAnimScale = this.animScale;
+		this.animScale = this.computeAnimScale(this.level().getGameTime());
+		if (this.isDespawning() && this.animScale < 0F) {
+			this.discard();
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
-			Vec3 wind = WindManager.getWindManager(serverLevel).getWindMovement(this.position(), 1D, 100D, 100D).scale(0.01D);
+			Vec3 wind = WIND_FIELD.getWindMovement(serverLevel, this.getX(), this.getY(), this.getZ()).scale(0.01D);
 			wind = wind.subtract(0D, wind.y * 0.7D, 0D);
 			this.setDeltaMovement(this.getDeltaMovement().add(wind.scale(0.02D)));
 		}
@@ -484,9 +559,9 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 
 	@Override
 	public void checkDespawn() {
-		if (!this.despawning) {
+		if (!this.isDespawning()) {
 			if (this.level().getDifficulty() == Difficulty.PEACEFUL && this.shouldDespawnInPeaceful()) {
-				this.despawning = true;
+				this.setDespawning(true);
 				return;
 			}
 			if (this.isPersistenceRequired() || this.requiresCustomPersistence()) {
@@ -501,18 +576,18 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 				boolean caveKey = this.level().getBiome(this.blockPosition()).is(WWBiomeTags.FIREFLY_SPAWNABLE_CAVE) && this.level().getBrightness(LightLayer.SKY, this.blockPosition()) >= 6;
 				if (this.removeWhenFarAway(d) && Math.sqrt(d) > 18D) {
 					if (dayKey) {
-						this.despawning = true;
+						this.setDespawning(true);
 					} else if (caveKey) {
-						this.despawning = true;
+						this.setDespawning(true);
 					}
 				}
 				if (d > (double) ((i = this.getType().getCategory().getDespawnDistance()) * i) && this.removeWhenFarAway(d)) {
-					this.despawning = true;
+					this.setDespawning(true);
 				}
 				int k = this.getType().getCategory().getNoDespawnDistance();
 				int l = k * k;
 				if (this.noActionTime > 600 && this.random.nextInt(800) == 0 && d > (double) l && this.removeWhenFarAway(d)) {
-					this.despawning = true;
+					this.setDespawning(true);
 				} else if (d < (double) l) {
 					this.noActionTime = 0;
 				}
@@ -526,11 +601,10 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		compound.putBoolean("fromBottle", this.isFromBottle());
 		compound.putBoolean("natural", this.natural);
 		compound.putBoolean("flickers", this.flickers());
-		compound.putInt("flickerAge", this.getFlickerAge());
+		compound.putInt("flickerSeed", this.entityData.get(FLICKER_SEED));
 		compound.putBoolean("hasHome", this.hasHome);
 		compound.putFloat("scale", this.getAnimScale());
-		compound.putFloat("prevScale", this.getPrevAnimScale());
-		compound.putBoolean("despawning", this.despawning);
+		compound.putBoolean("despawning", this.isDespawning());
 		compound.putString("color", Objects.requireNonNull(WilderWildRegistries.FIREFLY_COLOR.getKey(this.getColor())).toString());
 		compound.putInt("homeCheckCooldown", this.homeCheckCooldown);
 		compound.putBoolean("wasNamedNectar", this.wasNamedNectar);
@@ -549,20 +623,20 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		if (compound.contains("flickers")) {
 			this.setFlickers(compound.getBoolean("flickers"));
 		}
-		if (compound.contains("flickerAge")) {
-			this.setFlickerAge(compound.getInt("flickerAge"));
+		if (compound.contains("flickerSeed")) {
+			this.setFlickerSeed(compound.getInt("flickerSeed"));
+		} else if (compound.contains("flickerAge")) {
+			this.setFlickerSeed(compound.getInt("flickerAge"));
 		}
 		if (compound.contains("hasHome")) {
 			this.hasHome = compound.getBoolean("hasHome");
 		}
 		if (compound.contains("scale")) {
 			this.setAnimScale(compound.getFloat("scale"));
-		}
-		if (compound.contains("prevScale")) {
-			this.setPrevAnimScale(compound.getFloat("prevScale"));
+			this.setPrevAnimScale(this.getAnimScale());
 		}
 		if (compound.contains("despawning")) {
-			this.despawning = compound.getBoolean("despawning");
+			this.setDespawning(compound.getBoolean("despawning"));
 		}
 		FireflyColor color = WilderWildRegistries.FIREFLY_COLOR.get(ResourceLocation.tryParse(compound.getString("color")));
 		if (color != null) {
@@ -611,29 +685,62 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	public static class FireflyBiomeColorRegistry {
 		public static final ArrayList<ResourceLocation> BIOMES = new ArrayList<>();
 		public static final ArrayList<FireflyColor> COLORS = new ArrayList<>();
+		private static final FireflyColor[] NO_COLORS = new FireflyColor[0];
+		@Nullable
+		private static volatile Map<ResourceKey<Biome>, FireflyColor[]> colorsByBiome;
 
 		public static void addBiomeColor(@NotNull ResourceLocation biome, @NotNull FireflyColor color) {
 			BIOMES.add(biome);
 			COLORS.add(color);
+			colorsByBiome = null;
 		}
 
 		public static void addBiomeColor(@NotNull ResourceKey<Biome> biome, @NotNull FireflyColor color) {
 			addBiomeColor(biome.location(), color);
 		}
 
-		@Nullable
-		public static FireflyColor getBiomeColor(@NotNull Holder<Biome> biomeEntry) {
-			ArrayList<FireflyColor> colors = new ArrayList<>();
-			for (int i = 0; i < BIOMES.size(); ++i) {
-				ResourceLocation biomeID = BIOMES.get(i);
-				if (biomeEntry.is(biomeID)) {
-					colors.add(COLORS.get(i));
+		@NotNull
+		private static Map<ResourceKey<Biome>, FireflyColor[]> colorsByBiome() {
+			Map<ResourceKey<Biome>, FireflyColor[]> map = colorsByBiome;
+			if (map == null) {
+				Map<ResourceKey<Biome>, List<FireflyColor>> grouped = new LinkedHashMap<>();
+				for (int i = 0; i < BIOMES.size(); ++i) {
+					grouped.computeIfAbsent(ResourceKey.create(Registries.BIOME, BIOMES.get(i)), key -> new ArrayList<>()).add(COLORS.get(i));
 				}
+				ImmutableMap.Builder<ResourceKey<Biome>, FireflyColor[]> builder = ImmutableMap.builder();
+				grouped.forEach((biome, colors) -> builder.put(biome, colors.toArray(NO_COLORS)));
+				map = builder.build();
+				colorsByBiome = map;
+			}
+			return map;
+		}
+
+		@NotNull
+		public static FireflyColor[] getBiomeColors(@NotNull Holder<Biome> biomeEntry) {
+			ResourceKey<Biome> biome = biomeEntry instanceof Holder.Reference<Biome> reference ? reference.key() : biomeEntry.unwrapKey().orElse(null);
+			if (biome == null) {
+				return NO_COLORS;
 			}
-			if (colors.isEmpty()) {
+			FireflyColor[] colors = colorsByBiome().get(biome);
+			return colors != null ? colors : NO_COLORS;
+		}
+
+		@Nullable
+		public static FireflyColor getBiomeColor(@NotNull Holder<Biome> biomeEntry, @NotNull RandomSource random) {
+			FireflyColor[] colors = getBiomeColors(biomeEntry);
+			if (colors.length == 0) {
+				return null;
+			}
+			return colors.length == 1 ? colors[0] : colors[random.nextInt(colors.length)];
+		}
+
+		@Nullable
+		public static FireflyColor getBiomeColor(@NotNull Holder<Biome> biomeEntry) {
+			FireflyColor[] colors = getBiomeColors(biomeEntry);
+			if (colors.length == 0) {
 				return null;
 			}
-			return colors.get(AdvancedMath.random().nextInt(colors.size()));
+			return colors[AdvancedMath.random().nextInt(colors.length)];
 		}
 	}
 }
@@ -32,6 +32,7 @@ import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishAi;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishTemptGoal;
+import net.frozenblock.wilderwild.entity.impl.JellyfishStingSectionInterface;
 import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -57,6 +58,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
+import net.minecraft.util.AbortableIterationConsumer;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.Difficulty;
@@ -80,6 +82,7 @@ import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.animal.Bucketable;
 import net.minecraft.world.entity.player.Player;
@@ -95,8 +98,11 @@ import net.minecraft.world.level.block.ChestBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.ChestType;
+import net.minecraft.world.level.entity.EntitySection;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -114,6 +120,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public static final double HIDABLE_PLAYER_DISTANCE = 24D;
 	public static final int HIDABLE_TICKS_SINCE_SPAWN = 150;
 	public static final int HIDING_CHANCE = 25;
+	private static final double REPATH_DISTANCE_SQR = 1D;
 	public static final @NotNull ResourceLocation JELLYFISH_MOVEMENT_SPEED_MODIFIER_BABY_UUID = WWConstants.id("movement_speed_modifier_baby");
 	public static final AttributeModifier JELLYFISH_MOVEMENT_SPEED_MODIFIER_BABY = new AttributeModifier(JELLYFISH_MOVEMENT_SPEED_MODIFIER_BABY_UUID, 0.5D, AttributeModifier.Operation.ADD_MULTIPLIED_TOTAL);
 	public static final ArrayList<JellyfishVariant> COLORED_VARIANTS = new ArrayList<>(WilderWildRegistries.JELLYFISH_VARIANT.stream()
@@ -127,8 +134,23 @@ public class Jellyfish extends NoFlopAbstractFish {
 	private static final EntityDataAccessor<String> VARIANT = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.STRING);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
-	private static final Map<ServerLevelAccessor, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
+	private static final Map<ServerLevel, int[]> JELLYFISH_PER_LEVEL = new HashMap<>();
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
+	private final List<LivingEntity> stingTargets = new ArrayList<>();
+	private final AbortableIterationConsumer<LivingEntity> stingTargetCollector = entity -> {
+		if (entity != this && !(entity instanceof Jellyfish)) {
+			this.stingTargets.add(entity);
+		}
+		return AbortableIterationConsumer.Continuation.CONTINUE;
+	};
+	private final AbortableIterationConsumer<EntitySection<Entity>> stingSectionCheck = section -> {
+		if (((JellyfishStingSectionInterface) section).wilderWild$getStingTargetCount() > 0) {
+			this.stingTargetNearby = true;
+			return AbortableIterationConsumer.Continuation.ABORT;
+		}
+		return AbortableIterationConsumer.Continuation.CONTINUE;
+	};
+	private boolean stingTargetNearby;
 	public float xBodyRot;
 	public float xRot1;
 	public float xRot2;
@@ -146,6 +168,15 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public int reproductionCooldown;
 	private int forcedAge;
 	private int forcedAgeTimer;
+	@Nullable
+	private ServerLevel countedLevel;
+	private boolean countedAsPearlescent;
+	@Nullable
+	private LivingEntity pathTarget;
+	@Nullable
+	private Vec3 pathTargetPos;
+	@Nullable
+	private Path targetPath;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -153,22 +184,40 @@ public class Jellyfish extends NoFlopAbstractFish {
 	}
 
 	public static int getJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent) {
+		int[] counts = JELLYFISH_PER_LEVEL.get(level);
+		return counts == null ? 0 : counts[pearlescent ? 1 : 0];
+	}
+
+	public static int countJellyfishInLevel(@NotNull ServerLevel level, boolean pearlescent) {
 		AtomicInteger count = new AtomicInteger();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(level)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(level));
-		}
+		EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
+			if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
+				count.addAndGet(1);
+			}
+		});
 		return count.get();
 	}
 
-	public static void clearLevelToNonPearlescentCount() {
-		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+	public static void clearJellyfishPerLevel() {
+		JELLYFISH_PER_LEVEL.clear();
+	}
+
+	private static void changeJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent, int amount) {
+		JELLYFISH_PER_LEVEL.computeIfAbsent(level, key -> new int[2])[pearlescent ? 1 : 0] += amount;
+	}
+
+	public void startCounting(@NotNull ServerLevel level) {
+		this.stopCounting();
+		this.countedLevel = level;
+		this.countedAsPearlescent = this.getVariant().pearlescent();
+		changeJellyfishPerLevel(level, this.countedAsPearlescent, 1);
+	}
+
+	public void stopCounting() {
+		if (this.countedLevel != null) {
+			changeJellyfishPerLevel(this.countedLevel, this.countedAsPearlescent, -1);
+			this.countedLevel = null;
+		}
 	}
 
 	public static boolean checkJellyfishSpawnRules(
@@ -372,8 +421,17 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 		LivingEntity target = this.getTarget();
 		if (target != null) {
-			this.getNavigation().stop();
-			this.moveToAccurate(target, 2D);
+			if (this.shouldRepathTo(target)) {
+				this.getNavigation().stop();
+				this.moveToAccurate(target, 2D);
+				this.pathTarget = target;
+				this.pathTargetPos = target.position();
+				this.targetPath = this.getNavigation().getPath();
+			}
+		} else {
+			this.pathTarget = null;
+			this.pathTargetPos = null;
+			this.targetPath = null;
 		}
 
 		if (this.growing) {
@@ -464,9 +522,27 @@ public class Jellyfish extends NoFlopAbstractFish {
 		}
 	}
 
+	private boolean shouldRepathTo(@NotNull LivingEntity target) {
+		PathNavigation navigation = this.getNavigation();
+		return target != this.pathTarget
+			|| this.pathTargetPos == null
+			|| navigation.isDone()
+			|| navigation.getPath() != this.targetPath
+			|| target.distanceToSqr(this.pathTargetPos) > REPATH_DISTANCE_SQR;
+	}
+
 	public void stingEntities() {
-		if (this.isAlive() && !this.level().isClientSide) {
-			List<LivingEntity> list = this.level().getEntitiesOfClass(LivingEntity.class, this.getBoundingBox().inflate(0.08D));
+		if (this.isAlive() && this.level() instanceof ServerLevel serverLevel) {
+			AABB stingBox = this.getBoundingBox().inflate(0.08D);
+			// Sections count their non-jellyfish living entities, so a swarm with nothing else around never walks its entities.
+			this.stingTargetNearby = false;
+			serverLevel.entityManager.sectionStorage.forEachAccessibleNonEmptySection(stingBox, this.stingSectionCheck);
+			if (!this.stingTargetNearby) return;
+
+			List<LivingEntity> list = this.stingTargets;
+			list.clear();
+			serverLevel.getEntities().get(EntityTypeTest.forClass(LivingEntity.class), stingBox, this.stingTargetCollector);
+			if (list.isEmpty()) return;
 			boolean baby = this.isBaby();
 			float damage = baby ? 1F : 3F;
 
@@ -495,6 +571,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 					}
 				}
 			}
+			list.clear();
 		}
 	}
 
@@ -672,6 +749,11 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 	public void setVariant(@NotNull JellyfishVariant variant) {
 		this.entityData.set(VARIANT, variant.key().toString());
+		if (this.countedLevel != null && this.countedAsPearlescent != variant.pearlescent()) {
+			changeJellyfishPerLevel(this.countedLevel, this.countedAsPearlescent, -1);
+			this.countedAsPearlescent = variant.pearlescent();
+			changeJellyfishPerLevel(this.countedLevel, this.countedAsPearlescent, 1);
+		}
 	}
 
 	public boolean canReproduce() {
@@ -31,6 +31,7 @@ import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.tag.WWEntityTags;
 import net.frozenblock.wilderwild.tag.WWItemTags;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -89,10 +90,20 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public static final int SPAWN_CHANCE = 60;
 	private static final double WIND_MULTIPLIER = 1.4D;
 	private static final double WIND_CLAMP = 0.2D;
+	private static final WindFieldCache WIND_FIELD = new WindFieldCache(
+		(level, pos) -> WindManager.getWindManager((ServerLevel) level).getWindMovement(pos, WIND_MULTIPLIER, WIND_CLAMP),
+		WindFieldCache::getServerDisturbances
+	);
 	private static final float ROTATION_AMOUNT = 55F;
 	private static final float MAX_ITEM_OFFSET = 0.25F;
 	public static final double INACTIVE_PLAYER_DISTANCE_FROM = 24D;
 	public static final int MAX_INACTIVE_TICKS = 200;
+	public static final int SLEEP_INTERVAL = 20;
+	public static final double SLEEP_PLAYER_DISTANCE = 64D;
+	private static final double SLEEP_WIND_THRESHOLD = 0.05D;
+	private static final double SLEEP_MOVEMENT_THRESHOLD = 0.01D;
+	private static final int PICKUP_SCAN_INTERVAL = 4;
+	private static final double FAST_PICKUP_SPEED_SQR = 0.05D * 0.05D;
 	public static final int TUMBLEWEED_PLANT_ITEM_CHANCE = 15;
 	private static final EntityDataAccessor<ItemStack> ITEM_STACK = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.ITEM_STACK);
 	private static final EntityDataAccessor<Float> ITEM_X = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
@@ -112,6 +123,8 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public float itemX;
 	public float itemZ;
 	private float lookRot;
+	private int sleepTicks;
+	private int ticksAsleep;
 
 	public Tumbleweed(@NotNull EntityType<Tumbleweed> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -215,14 +228,44 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 			this.itemZ = this.getItemZ();
 		} else if (!this.isRemoved() && this.level() instanceof ServerLevel serverLevel) {
 			this.heal(1F);
+			if (this.sleepTicks > 0 && !this.shouldWake()) {
+				--this.sleepTicks;
+				++this.ticksAsleep;
+				return;
+			}
+			int elapsedTicks = this.ticksAsleep + 1;
+			this.sleepTicks = 0;
+			this.ticksAsleep = 0;
 			double brightness = this.level().getBrightness(LightLayer.SKY, BlockPos.containing(this.getEyePosition()));
-			this.checkActive(brightness);
+			Player player = this.level().getNearestPlayer(this, -1D);
+			this.checkActive(brightness, player, elapsedTicks);
 			this.moveWithWind(serverLevel, brightness, deltaPos);
 			this.tickAfterWindLeash();
 			this.pickupItem();
+			if (!this.isRemoved() && this.canSleep(serverLevel, player)) {
+				this.sleepTicks = SLEEP_INTERVAL;
+			}
 		}
 	}
 
+	private boolean canSleep(@NotNull ServerLevel level, @Nullable Player player) {
+		if (this.isLeashed()) return false;
+		if (this.isTouchingStickingBlock) return true;
+		if (!this.onGround() || this.getDeltaMovement().horizontalDistance() > SLEEP_MOVEMENT_THRESHOLD) return false;
+		if (player == null || player.distanceTo(this) > SLEEP_PLAYER_DISTANCE) return true;
+		return WIND_FIELD.getWindMovement(level, this.getX(), this.getY(), this.getZ()).horizontalDistance() < SLEEP_WIND_THRESHOLD;
+	}
+
+	private boolean shouldWake() {
+		if (this.isLeashed()) return true;
+		if (this.isTouchingStickingBlock) return false;
+		return !this.onGround() || this.getDeltaMovement().horizontalDistance() > SLEEP_MOVEMENT_THRESHOLD;
+	}
+
+	public void wakeUp() {
+		this.sleepTicks = 0;
+	}
+
 	public void setAngles(@NotNull Vec3 deltaPos) {
 		if (deltaPos.horizontalDistance() > 0.01D) {
 			this.lookRot = -((float) Mth.atan2(deltaPos.x, deltaPos.z)) * Mth.RAD_TO_DEG;
@@ -262,10 +305,9 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
-	private void checkActive(double brightness) {
-		Player entity = this.level().getNearestPlayer(this, -1D);
+	private void checkActive(double brightness, @Nullable Player entity, int elapsedTicks) {
 		if (!this.requiresCustomPersistence() && ((brightness < 7 && (entity == null || entity.distanceTo(this) > INACTIVE_PLAYER_DISTANCE_FROM)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
-			++this.ticksSinceActive;
+			this.ticksSinceActive += elapsedTicks;
 			if (this.ticksSinceActive >= MAX_INACTIVE_TICKS) {
 				this.destroy(false);
 			}
@@ -277,8 +319,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	private void moveWithWind(@NotNull ServerLevel serverLevel, double brightness, @NotNull Vec3 deltaPos) {
 		if (!(this.isTouchingStoppingBlock || this.isTouchingStickingBlock)) {
 			Vec3 deltaMovement = this.getDeltaMovement();
-			WindManager windManager = WindManager.getWindManager(serverLevel);
-			Vec3 windVec = windManager.getWindMovement(this.position(), WIND_MULTIPLIER, WIND_CLAMP).scale(this.wasTouchingWater ? 0.16777216D : 1D);
+			Vec3 windVec = WIND_FIELD.getWindMovement(serverLevel, this.getX(), this.getY(), this.getZ()).scale(this.wasTouchingWater ? 0.16777216D : 1D);
 			double multiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667D) * (this.wasTouchingWater ? 0.16777216D : 1D);
 			deltaMovement = deltaMovement.add((windVec.x * 0.2D), 0D, (windVec.z * 0.2D));
 			deltaMovement = new Vec3(deltaMovement.x, deltaMovement.y < 0 ? deltaMovement.y * 0.88D : deltaMovement.y, deltaMovement.z);
@@ -321,7 +362,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		if (inventoryStack.getCount() > 1) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getY(), this.getZ(), inventoryStack.split(inventoryStack.getCount() - 1)));
 		}
-		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
+		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.shouldScanForItems() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
 			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(0.15D));
 			for (ItemEntity item : list) {
 				if (this.isMovingTowards(item)) {
@@ -335,7 +376,15 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 				}
 			}
 		}
-		this.setVisibleItem(this.inventory.get(0));
+		ItemStack stack = this.inventory.get(0);
+		if (!ItemStack.matches(this.getVisibleItem(), stack)) {
+			this.setVisibleItem(stack.copy());
+		}
+	}
+
+	private boolean shouldScanForItems() {
+		// Slow tumbleweeds can't skip past an item between scans, so they only look every few ticks.
+		return (this.tickCount + this.getId()) % PICKUP_SCAN_INTERVAL == 0 || this.getDeltaMovement().lengthSqr() > FAST_PICKUP_SPEED_SQR;
 	}
 
 	public void dropItem(boolean killed) {
@@ -360,7 +409,13 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	}
 
 	public boolean isMovingTowards(@NotNull Entity entity) {
-		return entity.getPosition(0).distanceTo(this.getPosition(0)) > entity.getPosition(1).distanceTo(this.getPosition(1));
+		double oldX = entity.xo - this.xo;
+		double oldY = entity.yo - this.yo;
+		double oldZ = entity.zo - this.zo;
+		double newX = entity.getX() - this.getX();
+		double newY = entity.getY() - this.getY();
+		double newZ = entity.getZ() - this.getZ();
+		return (oldX * oldX) + (oldY * oldY) + (oldZ * oldZ) > (newX * newX) + (newY * newY) + (newZ * newZ);
 	}
 
 	@NotNull
@@ -368,6 +423,12 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		return this.getPosition(1).subtract(this.getPosition(0));
 	}
 
+	@Override
+	public boolean hurt(@NotNull DamageSource source, float amount) {
+		this.wakeUp();
+		return super.hurt(source, amount);
+	}
+
 	@Override
 	public boolean isInvulnerableTo(@NotNull DamageSource source) {
 		return source.is(DamageTypeTags.WITCH_RESISTANT_TO) || source.is(DamageTypes.CACTUS) || source.is(DamageTypes.FREEZE) || source.is(DamageTypes.SWEET_BERRY_BUSH) || source.is(DamageTypes.WITHER) || super.isInvulnerableTo(source);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai;
+
+import net.frozenblock.wilderwild.block.impl.TermiteFlagsInterface;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A per-{@link BlockState} table of everything termites need to know about a block.
+ * <p>
+ * Flags are computed lazily and stored on the state itself, tagged with the generation they were built in.
+ * Calling {@link #invalidate()} after a tag reload or config change makes every state rebuild on its next lookup.
+ */
+public final class TermiteBlockFlags {
+	public static final int EDIBLE = 1;
+	public static final int EDIBLE_NATURAL = 1 << 1;
+	public static final int BREAKABLE = 1 << 2;
+	public static final int LEAVES = 1 << 3;
+	public static final int DEGRADABLE_OR_BREAKABLE = 1 << 4;
+	public static final int BLOCKS_TERMITE = 1 << 5;
+	public static final int KILLS_TERMITE = 1 << 6;
+	public static final int SAFE = 1 << 7;
+	public static final int MOVABLE_UP = 1 << 8;
+	public static final int MOVABLE_DOWN = 1 << 9;
+	public static final int UPPER_HALF = 1 << 10;
+	private static final int FLAG_BITS = 16;
+	private static final int FLAG_MASK = (1 << FLAG_BITS) - 1;
+
+	private static volatile int generation = 1;
+
+	private TermiteBlockFlags() {
+		throw new UnsupportedOperationException("TermiteBlockFlags contains only static declarations.");
+	}
+
+	public static void invalidate() {
+		int next = (generation + 1) & FLAG_MASK;
+		generation = next == 0 ? 1 : next;
+	}
+
+	public static int get(@NotNull BlockState state) {
+		TermiteFlagsInterface flagsInterface = (TermiteFlagsInterface) state;
+		int currentGeneration = generation;
+		int packed = flagsInterface.wilderWild$getTermiteFlags();
+		if (packed >>> FLAG_BITS != currentGeneration) {
+			packed = (currentGeneration << FLAG_BITS) | compute(state);
+			flagsInterface.wilderWild$setTermiteFlags(packed);
+		}
+		return packed & FLAG_MASK;
+	}
+
+	public static boolean has(@NotNull BlockState state, int flag) {
+		return (get(state) & flag) != 0;
+	}
+
+	public static boolean isEdible(@NotNull BlockState state, boolean natural) {
+		return has(state, natural ? EDIBLE_NATURAL : EDIBLE);
+	}
+
+	public static boolean isMovable(@NotNull BlockState state, @NotNull Direction direction) {
+		int flags = get(state);
+		return switch (direction) {
+			case UP -> (flags & MOVABLE_UP) != 0;
+			case DOWN -> (flags & MOVABLE_DOWN) != 0;
+			default -> (flags & BLOCKS_TERMITE) == 0;
+		};
+	}
+
+	private static int compute(@NotNull BlockState state) {
+		int flags = 0;
+		boolean breakable = state.is(WWBlockTags.TERMITE_BREAKABLE);
+		boolean edibleProperty = TermiteManager.Termite.isEdibleProperty(state);
+		boolean degradable = TermiteManager.Termite.DEGRADABLE_BLOCKS.containsKey(state.getBlock());
+		boolean naturalDegradable = TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock());
+		boolean killsTermite = state.is(WWBlockTags.KILLS_TERMITE);
+
+		if ((degradable || breakable) && edibleProperty) flags |= EDIBLE;
+		if ((naturalDegradable || breakable) && edibleProperty) flags |= EDIBLE_NATURAL;
+		if (breakable) flags |= BREAKABLE;
+		if (state.is(BlockTags.LEAVES)) flags |= LEAVES;
+		if (degradable || breakable) flags |= DEGRADABLE_OR_BREAKABLE;
+		if (state.is(WWBlockTags.BLOCKS_TERMITE)) flags |= BLOCKS_TERMITE;
+		if (killsTermite) flags |= KILLS_TERMITE;
+		if (!killsTermite && state.getFluidState().isEmpty()) flags |= SAFE;
+		if (TermiteManager.Termite.isBlockMovable(state, Direction.UP)) flags |= MOVABLE_UP;
+		if (TermiteManager.Termite.isBlockMovable(state, Direction.DOWN)) flags |= MOVABLE_DOWN;
+		if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
+			flags |= UPPER_HALF;
+		}
+		return flags;
+	}
+}
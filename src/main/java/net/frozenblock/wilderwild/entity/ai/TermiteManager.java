@@ -22,8 +22,11 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,9 +39,9 @@ import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
-import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.BlockParticleOption;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -50,17 +53,16 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 public class TermiteManager {
@@ -71,7 +73,25 @@ public class TermiteManager {
 	public static final int PARTICLE_COUNT_WHILE_EATING = 4;
 	public static final int PARTICLE_COUNT = 6;
 	public static final float BLOCK_SOUND_VOLUME = 0.6F;
-	private final ArrayList<Termite> termites = new ArrayList<>();
+	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
+	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
+	private static final Direction[] DIRECTIONS = Direction.values();
+	// Packs to a position outside the world border, so it never collides with a real termite position.
+	private static final long NO_POS = Long.MAX_VALUE;
+
+	private long[] moundPositions = new long[TERMITE_COUNT];
+	private long[] positions = new long[TERMITE_COUNT];
+	private int[] blockDestroyPower = new int[TERMITE_COUNT];
+	private int[] idleTicks = new int[TERMITE_COUNT];
+	private int[] updateTicks = new int[TERMITE_COUNT];
+	private int[] ids = new int[TERMITE_COUNT];
+	private boolean[] eating = new boolean[TERMITE_COUNT];
+	private int size;
+
+	private final LongArrayList removedPositions = new LongArrayList();
+	private final Long2ObjectOpenHashMap<BlockState> stateCache = new Long2ObjectOpenHashMap<>();
+	private final Direction[] shuffledDirections = new Direction[DIRECTIONS.length];
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 	public int ticksToNextTermite;
 	public int highestID;
 
@@ -86,7 +106,7 @@ public class TermiteManager {
 
 	public static boolean areTermitesSafe(@NotNull Level level, @NotNull BlockPos pos) {
 		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-		for (Direction direction : Direction.values()) {
+		for (Direction direction : DIRECTIONS) {
 			if (!isPosSafeForTermites(level, mutableBlockPos.move(direction))) {
 				return false;
 			}
@@ -100,45 +120,91 @@ public class TermiteManager {
 	}
 
 	public static boolean isStateSafeForTermites(@NotNull BlockState state) {
-		return !state.is(WWBlockTags.KILLS_TERMITE) && state.getFluidState().isEmpty();
+		return TermiteBlockFlags.has(state, TermiteBlockFlags.SAFE);
 	}
 
 	public void addTermite(@NotNull BlockPos pos) {
-		Termite termite = new Termite(pos, pos, 0, 0, 0, false, this.highestID += 1);
-		this.termites.add(termite);
+		long packedPos = pos.asLong();
+		this.addTermite(packedPos, packedPos, 0, 0, 0, false, this.highestID += 1);
+	}
+
+	private void addTermite(long mound, long pos, int blockDestroyPower, int idleTicks, int update, boolean eating, int id) {
+		if (this.size == this.positions.length) {
+			int capacity = this.size * 2;
+			this.moundPositions = Arrays.copyOf(this.moundPositions, capacity);
+			this.positions = Arrays.copyOf(this.positions, capacity);
+			this.blockDestroyPower = Arrays.copyOf(this.blockDestroyPower, capacity);
+			this.idleTicks = Arrays.copyOf(this.idleTicks, capacity);
+			this.updateTicks = Arrays.copyOf(this.updateTicks, capacity);
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.eating = Arrays.copyOf(this.eating, capacity);
+		}
+		int index = this.size++;
+		this.moundPositions[index] = mound;
+		this.positions[index] = pos;
+		this.blockDestroyPower[index] = blockDestroyPower;
+		this.idleTicks[index] = idleTicks;
+		this.updateTicks[index] = update;
+		this.ids[index] = id;
+		this.eating[index] = eating;
+	}
+
+	private void copyTermite(int from, int to) {
+		this.moundPositions[to] = this.moundPositions[from];
+		this.positions[to] = this.positions[from];
+		this.blockDestroyPower[to] = this.blockDestroyPower[from];
+		this.idleTicks[to] = this.idleTicks[from];
+		this.updateTicks[to] = this.updateTicks[from];
+		this.ids[to] = this.ids[from];
+		this.eating[to] = this.eating[from];
+	}
+
+	private void removeTermite(int index) {
+		for (int i = index + 1; i < this.size; i++) {
+			this.copyTermite(i, i - 1);
+		}
+		--this.size;
 	}
 
 	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
 		int maxTermites = maxTermites(natural, awake, canSpawn);
-		ArrayList<Termite> termitesToRemove = new ArrayList<>();
 		RandomSource random = level.getRandom();
-		for (Termite termite : this.termites) {
-			if (termite.tick(level, natural, random)) {
+		this.stateCache.clear();
+		int kept = 0;
+		for (int i = 0; i < this.size; i++) {
+			long termitePos;
+			if (this.tickTermite(i, level, natural, random)) {
 				if (level instanceof ServerLevel serverLevel) {
-					BlockPos termitePos = termite.getPos();
+					termitePos = this.positions[i];
 					serverLevel.sendParticles(
 						WWParticleTypes.TERMITE,
-						termitePos.getX() + 0.5D,
-						termitePos.getY() + 0.5D,
-						termitePos.getZ() + 0.5D,
-						termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
+						BlockPos.getX(termitePos) + 0.5D,
+						BlockPos.getY(termitePos) + 0.5D,
+						BlockPos.getZ(termitePos) + 0.5D,
+						this.eating[i] ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
 						0D,
 						0D,
 						0D,
 						0D
 					);
 				}
+				if (kept != i) {
+					this.copyTermite(i, kept);
+				}
+				++kept;
 			} else {
-				level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-				termitesToRemove.add(termite);
+				termitePos = this.positions[i];
+				level.playSound(null, BlockPos.of(termitePos), WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+				this.removedPositions.add(termitePos);
 			}
 		}
-		for (Termite termite : termitesToRemove) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
+		this.size = kept;
+		for (int i = 0; i < this.removedPositions.size(); i++) {
+			level.gameEvent(null, GameEvent.ENTITY_DIE, centerOf(this.removedPositions.getLong(i)));
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 		}
-		if (this.termites.size() < maxTermites) {
+		this.removedPositions.clear();
+		if (this.size < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
 				--this.ticksToNextTermite;
 			} else {
@@ -148,35 +214,298 @@ public class TermiteManager {
 				this.ticksToNextTermite = natural ? TERMITE_RELEASE_COUNTDOWN_NATURAL : TERMITE_RELEASE_COUNTDOWN;
 			}
 		}
-		while (this.termites.size() > maxTermites) {
-			Termite termite = this.termites.get(random.nextInt(this.termites.size()));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-			level.gameEvent(null, GameEvent.TELEPORT, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
+		while (this.size > maxTermites) {
+			int index = random.nextInt(this.size);
+			long termitePos = this.positions[index];
+			level.playSound(null, BlockPos.of(termitePos), WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+			level.gameEvent(null, GameEvent.TELEPORT, centerOf(termitePos));
+			this.removeTermite(index);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 		}
-		termitesToRemove.clear();
 	}
-	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
-	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
+
+	private boolean tickTermite(int index, @NotNull Level level, boolean natural, RandomSource random) {
+		boolean exit = false;
+		long mound = this.moundPositions[index];
+		long termitePos = this.positions[index];
+		int idleTicks = ++this.idleTicks[index];
+		if (idleTicks > (natural ? Termite.MAX_IDLE_TICKS_NATURAL : Termite.MAX_IDLE_TICKS) || isTooFar(natural, mound, termitePos)) {
+			return false;
+		}
+		if (!this.areTermitesSafe(level, termitePos)) {
+			return false;
+		}
+		if (canMove(level, termitePos)) {
+			BlockState blockState = this.getBlockState(level, termitePos);
+			int flags = TermiteBlockFlags.get(blockState);
+			boolean breakable = (flags & TermiteBlockFlags.BREAKABLE) != 0;
+			boolean leaves = (flags & TermiteBlockFlags.LEAVES) != 0;
+			if ((flags & (natural ? TermiteBlockFlags.EDIBLE_NATURAL : TermiteBlockFlags.EDIBLE)) != 0) {
+				this.eating[index] = true;
+				exit = true;
+				int additionalPower = breakable ? leaves ? Termite.DESTROY_POWER_LEAVES : Termite.DESTROY_POWER_BREAKABLE : Termite.DESTROY_POWER;
+				this.blockDestroyPower[index] += additionalPower;
+				spawnGnawParticles(level, blockState, termitePos, random);
+				if (this.blockDestroyPower[index] > Termite.DESTROY_POWER_BEFORE_BLOCK_BREAKS) {
+					this.blockDestroyPower[index] = 0;
+					this.idleTicks[index] = natural ? Math.max(0, idleTicks - (Termite.DESTROY_POWER_BEFORE_BLOCK_BREAKS / additionalPower)) : 0;
+					BlockPos eatPos = BlockPos.of(termitePos);
+					if (breakable) {
+						level.destroyBlock(eatPos, true);
+					} else {
+						level.addDestroyBlockEffect(eatPos, blockState);
+						Block block = blockState.getBlock();
+						Block setBlock = !natural ? Termite.DEGRADABLE_BLOCKS.get(block) : Termite.NATURAL_DEGRADABLE_BLOCKS.get(block);
+						BlockState setState = setBlock.withPropertiesOf(blockState);
+						level.setBlockAndUpdate(eatPos, setState);
+						if (setBlock instanceof HollowedLogBlock) {
+							boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
+							level.playSound(null, eatPos, nether ? WWSounds.STEM_HOLLOWED : WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.95F + (random.nextFloat() * 0.2F));
+						}
+					}
+					this.stateCache.clear();
+					spawnEatParticles(level, blockState, termitePos, random);
+					level.playSound(null, eatPos, WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.9F + (random.nextFloat() * 0.25F));
+				}
+			} else {
+				this.eating[index] = false;
+				this.blockDestroyPower[index] = 0;
+				Direction direction = Direction.getRandom(random);
+				if (blockState.isAir()) {
+					direction = Direction.DOWN;
+				}
+				long offset = BlockPos.offset(termitePos, direction);
+				BlockState state = this.getBlockState(level, offset);
+				if (!isStateSafeForTermites(state)) {
+					return false;
+				}
+
+				if (this.updateTicks[index] > 0 && !blockState.isAir()) {
+					--this.updateTicks[index];
+					return true;
+				} else {
+					this.updateTicks[index] = Termite.UPDATE_DELAY_IN_TICKS;
+					long priority = this.degradableBreakablePos(level, termitePos, natural, random);
+					if (priority != NO_POS) {
+						termitePos = priority;
+						exit = true;
+					} else {
+						long ledge = this.ledgePos(level, offset, natural);
+						long posUp = BlockPos.offset(termitePos, Direction.UP);
+						BlockState stateUp = this.getBlockState(level, posUp);
+						if (this.exposedToAir(level, offset, natural)
+							&& TermiteBlockFlags.isMovable(state, direction)
+							&& !(direction != Direction.DOWN && state.isAir() && (!closerThan(mound, termitePos, 1.5D)) && ledge == NO_POS)
+						) {
+							termitePos = ledge != NO_POS ? ledge : offset;
+							exit = true;
+						} else if (ledge != NO_POS && this.exposedToAir(level, ledge, natural)) {
+							termitePos = ledge;
+							exit = true;
+						} else if (!stateUp.isAir() && TermiteBlockFlags.isMovable(stateUp, Direction.UP) && this.exposedToAir(level, posUp, natural)) {
+							termitePos = posUp;
+							exit = true;
+						}
+					}
+					this.positions[index] = termitePos;
+				}
+			}
+		}
+		return exit || this.exposedToAir(level, termitePos, natural);
+	}
+
+	@NotNull
+	private BlockState getBlockState(@NotNull Level level, long pos) {
+		BlockState state = this.stateCache.get(pos);
+		if (state == null) {
+			state = level.getBlockState(this.mutablePos.set(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos)));
+			this.stateCache.put(pos, state);
+		}
+		return state;
+	}
+
+	private boolean areTermitesSafe(@NotNull Level level, long pos) {
+		for (Direction direction : DIRECTIONS) {
+			if (!isStateSafeForTermites(this.getBlockState(level, BlockPos.offset(pos, direction)))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long ledgePos(@NotNull Level level, long pos, boolean natural) {
+		BlockState state = this.getBlockState(level, pos);
+		if (TermiteBlockFlags.has(state, TermiteBlockFlags.DEGRADABLE_OR_BREAKABLE)) {
+			return pos;
+		}
+		long below = BlockPos.offset(pos, Direction.DOWN);
+		state = this.getBlockState(level, below);
+		if (!state.isAir() && TermiteBlockFlags.isMovable(state, Direction.DOWN) && this.exposedToAir(level, below, natural)) {
+			return below;
+		}
+		long above = BlockPos.offset(pos, Direction.UP);
+		state = this.getBlockState(level, above);
+		if (!state.isAir() && TermiteBlockFlags.isMovable(state, Direction.UP) && this.exposedToAir(level, above, natural)) {
+			return above;
+		}
+		return NO_POS;
+	}
+
+	private long degradableBreakablePos(@NotNull Level level, long pos, boolean natural, RandomSource random) {
+		Direction[] directions = this.shuffledDirections;
+		System.arraycopy(DIRECTIONS, 0, directions, 0, DIRECTIONS.length);
+		// Matches Util.shuffle so termites keep consuming random values in the same order.
+		for (int i = directions.length; i > 1; --i) {
+			int swapIndex = random.nextInt(i);
+			Direction direction = directions[i - 1];
+			directions[i - 1] = directions[swapIndex];
+			directions[swapIndex] = direction;
+		}
+		long edible = this.edibleBlockPos(level, BlockPos.offset(pos, Direction.UP), natural);
+		if (edible != NO_POS) return edible;
+		for (Direction direction : directions) {
+			edible = this.edibleBlockPos(level, BlockPos.offset(pos, direction), natural);
+			if (edible != NO_POS) return edible;
+		}
+		return NO_POS;
+	}
+
+	private long edibleBlockPos(@NotNull Level level, long pos, boolean natural) {
+		int flags = TermiteBlockFlags.get(this.getBlockState(level, pos));
+		if ((flags & (natural ? TermiteBlockFlags.EDIBLE_NATURAL : TermiteBlockFlags.EDIBLE)) != 0) {
+			if ((flags & TermiteBlockFlags.UPPER_HALF) != 0) {
+				return BlockPos.offset(pos, Direction.DOWN);
+			}
+			return pos;
+		}
+		return NO_POS;
+	}
+
+	private boolean exposedToAir(@NotNull Level level, long pos, boolean natural) {
+		int edibleFlag = natural ? TermiteBlockFlags.EDIBLE_NATURAL : TermiteBlockFlags.EDIBLE;
+		for (Direction direction : DIRECTIONS) {
+			long offset = BlockPos.offset(pos, direction);
+			BlockState state = this.getBlockState(level, offset);
+			if (state.isAir()) return true;
+			int flags = TermiteBlockFlags.get(state);
+			if ((flags & edibleFlag) != 0
+				|| ((flags & TermiteBlockFlags.BLOCKS_TERMITE) == 0 && !state.isRedstoneConductor(level, this.mutablePos.set(BlockPos.getX(offset), BlockPos.getY(offset), BlockPos.getZ(offset))))
+			) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static boolean canMove(@NotNull LevelAccessor level, long pos) {
+		if (level instanceof ServerLevel serverLevel) {
+			return serverLevel.shouldTickBlocksAt(ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos))));
+		}
+		return false;
+	}
+
+	public static boolean isTooFar(boolean natural, long mound, long pos) {
+		return !closerThan(mound, pos, natural ? WWBlockConfig.get().termite.maxNaturalDistance : WWBlockConfig.get().termite.maxDistance);
+	}
+
+	private static boolean closerThan(long from, long to, double distance) {
+		double x = BlockPos.getX(from) - BlockPos.getX(to);
+		double y = BlockPos.getY(from) - BlockPos.getY(to);
+		double z = BlockPos.getZ(from) - BlockPos.getZ(to);
+		return x * x + y * y + z * z < distance * distance;
+	}
+
+	@NotNull
+	private static Vec3 centerOf(long pos) {
+		return new Vec3(BlockPos.getX(pos) + 0.5D, BlockPos.getY(pos) + 0.5D, BlockPos.getZ(pos) + 0.5D);
+	}
+
+	private static void spawnGnawParticles(@NotNull Level level, @NotNull BlockState eatState, long pos, RandomSource random) {
+		if (level instanceof ServerLevel serverLevel && random.nextInt(Termite.GNAW_PARTICLE_CHANCE) == 0) {
+			int count = random.nextInt(Termite.MIN_GNAW_PARTICLES, Termite.MAX_GNAW_PARTICLES);
+			if (count > 0) {
+				serverLevel.sendParticles(
+					new BlockParticleOption(ParticleTypes.BLOCK, eatState),
+					BlockPos.getX(pos) + 0.5D,
+					BlockPos.getY(pos) + 0.5D,
+					BlockPos.getZ(pos) + 0.5D,
+					count,
+					0.3F,
+					0.3F,
+					0.3F,
+					0.05D
+				);
+			}
+		}
+	}
+
+	private static void spawnEatParticles(@NotNull Level level, @NotNull BlockState eatState, long pos, RandomSource random) {
+		if (level instanceof ServerLevel serverLevel) {
+			serverLevel.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, eatState),
+				BlockPos.getX(pos) + 0.5D,
+				BlockPos.getY(pos) + 0.5D,
+				BlockPos.getZ(pos) + 0.5D,
+				random.nextInt(Termite.MIN_EAT_PARTICLES, Termite.MAX_EAT_PARTICLES),
+				0.3F,
+				0.3F,
+				0.3F,
+				0.05D
+			);
+		}
+	}
 
 	public void clearTermites(@NotNull Level level) {
-		for (Termite termite : this.termites) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+		for (int i = 0; i < this.size; i++) {
+			long termitePos = this.positions[i];
+			level.gameEvent(null, GameEvent.ENTITY_DIE, centerOf(termitePos));
+			level.playSound(null, BlockPos.of(termitePos), WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+		}
+		this.size = 0;
+	}
+
+	public int termiteCount() {
+		return this.size;
+	}
+
+	public int indexOfTermite(int id) {
+		for (int i = 0; i < this.size; i++) {
+			if (this.ids[i] == id) return i;
 		}
-		this.termites.clear();
+		return -1;
+	}
+
+	public int getTermiteID(int index) {
+		return this.ids[index];
+	}
+
+	public long getTermitePos(int index) {
+		return this.positions[index];
 	}
 
-	public ArrayList<Termite> termites() {
-		return this.termites;
+	public boolean isTermiteEating(int index) {
+		return this.eating[index];
 	}
 
 	public void saveAdditional(@NotNull CompoundTag tag) {
 		tag.putInt("ticksToNextTermite", this.ticksToNextTermite);
 		tag.putInt("highestID", this.highestID);
+		List<Termite> termites = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			termites.add(
+				new Termite(
+					BlockPos.of(this.moundPositions[i]),
+					BlockPos.of(this.positions[i]),
+					this.blockDestroyPower[i],
+					this.idleTicks[i],
+					this.updateTicks[i],
+					this.eating[i],
+					this.ids[i]
+				)
+			);
+		}
 		Logger logger = WWConstants.LOGGER;
-		DataResult<Tag> var10000 = Termite.CODEC.listOf().encodeStart(NbtOps.INSTANCE, this.termites);
+		DataResult<Tag> var10000 = Termite.CODEC.listOf().encodeStart(NbtOps.INSTANCE, termites);
 		Objects.requireNonNull(logger);
 		var10000.resultOrPartial(logger::error).ifPresent((nbt) -> tag.put("termites", nbt));
 	}
@@ -185,18 +514,30 @@ public class TermiteManager {
 		this.ticksToNextTermite = tag.getInt("ticksToNextTermite");
 		this.highestID = tag.getInt("highestID");
 		if (tag.contains("termites", 9)) {
-			this.termites.clear();
+			this.size = 0;
 			DataResult<List<Termite>> var10000 = Termite.CODEC.listOf().parse(new Dynamic<>(NbtOps.INSTANCE, tag.getList("termites", 10)));
 			Logger logger = WWConstants.LOGGER;
 			Objects.requireNonNull(logger);
 			Optional<List<Termite>> list = var10000.resultOrPartial(logger::error);
 			if (list.isPresent()) {
-				List<Termite> termiteList = list.get();
-				this.termites.addAll(termiteList);
+				for (Termite termite : list.get()) {
+					this.addTermite(
+						termite.getMoundPos().asLong(),
+						termite.getPos().asLong(),
+						termite.getBlockDestroyPower(),
+						termite.getIdleTicks(),
+						termite.getUpdateTicks(),
+						termite.getEating(),
+						termite.getID()
+					);
+				}
 			}
 		}
 	}
 
+	/**
+	 * The saved form of a termite. Live termites are stored in {@link TermiteManager}'s arrays.
+	 */
 	public static class Termite {
 		public static final int DESTROY_POWER_BEFORE_BLOCK_BREAKS = 200;
 		public static final int DESTROY_POWER_LEAVES = 4;
@@ -249,162 +590,10 @@ public class TermiteManager {
 			this.id = id;
 		}
 
-		public boolean tick(@NotNull Level level, boolean natural, RandomSource random) {
-			boolean exit = false;
-			++this.idleTicks;
-			if (this.idleTicks > (natural ? MAX_IDLE_TICKS_NATURAL : MAX_IDLE_TICKS) || isTooFar(natural, this.mound, this.pos)) {
-				return false;
-			}
-			if (!areTermitesSafe(level, this.pos)) {
-				return false;
-			}
-			if (canMove(level, this.pos)) {
-				BlockState blockState = level.getBlockState(this.pos);
-				Block block = blockState.getBlock();
-				boolean degradable = !natural ? DEGRADABLE_BLOCKS.containsKey(block) : NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
-				boolean breakable = blockState.is(WWBlockTags.TERMITE_BREAKABLE);
-				boolean leaves = blockState.is(BlockTags.LEAVES);
-				if ((degradable || breakable) && isEdibleProperty(blockState)) {
-					this.eating = true;
-					exit = true;
-					int additionalPower = breakable ? leaves ? DESTROY_POWER_LEAVES : DESTROY_POWER_BREAKABLE : DESTROY_POWER;
-					this.blockDestroyPower += additionalPower;
-					spawnGnawParticles(level, blockState, this.pos, random);
-					if (this.blockDestroyPower > DESTROY_POWER_BEFORE_BLOCK_BREAKS) {
-						this.blockDestroyPower = 0;
-						this.idleTicks = natural ? Math.max(0, this.idleTicks - (DESTROY_POWER_BEFORE_BLOCK_BREAKS / additionalPower)) : 0;
-						if (breakable) {
-							level.destroyBlock(this.pos, true);
-						} else {
-							level.addDestroyBlockEffect(this.pos, blockState);
-							Block setBlock = !natural ? DEGRADABLE_BLOCKS.get(block) : NATURAL_DEGRADABLE_BLOCKS.get(block);
-							BlockState setState = setBlock.withPropertiesOf(blockState);
-							level.setBlockAndUpdate(this.pos, setState);
-							if (setBlock instanceof HollowedLogBlock) {
-								boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
-								level.playSound(null, pos, nether ? WWSounds.STEM_HOLLOWED : WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.95F + (random.nextFloat() * 0.2F));
-							}
-						}
-						spawnEatParticles(level, blockState, this.pos, random);
-						level.playSound(null, pos, WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.9F + (random.nextFloat() * 0.25F));
-					}
-				} else {
-					this.eating = false;
-					this.blockDestroyPower = 0;
-					Direction direction = Direction.getRandom(random);
-					if (blockState.isAir()) {
-						direction = Direction.DOWN;
-					}
-					BlockPos offset = this.pos.relative(direction);
-					BlockState state = level.getBlockState(offset);
-					if (!isStateSafeForTermites(state)) {
-						return false;
-					}
-
-					if (this.update > 0 && !blockState.isAir()) {
-						--this.update;
-						return true;
-					} else {
-						this.update = UPDATE_DELAY_IN_TICKS;
-						BlockPos priority = degradableBreakablePos(level, this.pos, natural, random);
-						if (priority != null) {
-							this.pos = priority;
-							exit = true;
-						} else {
-							BlockPos ledge = ledgePos(level, offset, natural);
-							BlockPos posUp = this.pos.above();
-							BlockState stateUp = level.getBlockState(posUp);
-							if (exposedToAir(level, offset, natural)
-								&& isBlockMovable(state, direction)
-								&& !(direction != Direction.DOWN && state.isAir() && (!this.mound.closerThan(this.pos, 1.5D)) && ledge == null)
-							) {
-								this.pos = offset;
-								if (ledge != null) {
-									this.pos = ledge;
-								}
-								exit = true;
-							} else if (ledge != null && exposedToAir(level, ledge, natural)) {
-								this.pos = ledge;
-								exit = true;
-							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(level, posUp, natural)) {
-								this.pos = posUp;
-								exit = true;
-							}
-						}
-					}
-				}
-			}
-			return exit || (exposedToAir(level, this.pos, natural));
-		}
-
-		@Nullable
-		public static BlockPos ledgePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			BlockState state = level.getBlockState(mutableBlockPos);
-			if (DEGRADABLE_BLOCKS.containsKey(state.getBlock()) || state.is(WWBlockTags.TERMITE_BREAKABLE)) {
-				return mutableBlockPos;
-			}
-			mutableBlockPos.move(Direction.DOWN);
-			state = level.getBlockState(mutableBlockPos);
-			if (!state.isAir() && isBlockMovable(state, Direction.DOWN) && exposedToAir(level, mutableBlockPos, natural)) {
-				return mutableBlockPos;
-			}
-			mutableBlockPos.move(Direction.UP, 2);
-			state = level.getBlockState(mutableBlockPos);
-			if (!state.isAir() && isBlockMovable(state, Direction.UP) && exposedToAir(level, mutableBlockPos, natural)) {
-				return mutableBlockPos;
-			}
-			return null;
-		}
-
-		@Nullable
-		public static BlockPos degradableBreakablePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural, RandomSource random) {
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			List<Direction> directions = Util.shuffledCopy(Direction.values(), random);
-			BlockState upState = level.getBlockState(mutableBlockPos.move(Direction.UP));
-			if (canEatBlock(natural, mutableBlockPos, upState)) return mutableBlockPos;
-			mutableBlockPos.move(Direction.DOWN);
-			for (Direction direction : directions) {
-				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				if (canEatBlock(natural, mutableBlockPos, state)) return mutableBlockPos;
-				mutableBlockPos.move(direction, -1);
-			}
-			return null;
-		}
-
-		private static boolean canEatBlock(boolean natural, @NotNull BlockPos.MutableBlockPos mutableBlockPos, @NotNull BlockState state) {
-			if (((!natural ? DEGRADABLE_BLOCKS.containsKey(state.getBlock()) : NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WWBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
-				if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
-					mutableBlockPos.move(Direction.DOWN);
-				}
-				return true;
-			}
-			return false;
-		}
-
 		public static boolean isEdibleProperty(@NotNull BlockState state) {
 			return !WWBlockConfig.get().termite.onlyEatNaturalBlocks || (state.hasProperty(WWBlockStateProperties.TERMITE_EDIBLE) ? state.getValue(WWBlockStateProperties.TERMITE_EDIBLE) : !state.is(BlockTags.LEAVES) || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT));
 		}
 
-		public static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			for (Direction direction : Direction.values()) {
-				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				if (state.isAir() || (!state.isRedstoneConductor(level, mutableBlockPos) && !state.is(WWBlockTags.BLOCKS_TERMITE)) || ((!natural && DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || (natural && NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WWBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
-					return true;
-				}
-				mutableBlockPos.move(direction, -1);
-			}
-			return false;
-		}
-
-		public static boolean canMove(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
-			if (level instanceof ServerLevel serverLevel) {
-				return serverLevel.shouldTickBlocksAt(pos);
-			}
-			return false;
-		}
-
 		public static boolean isBlockMovable(@NotNull BlockState state, @NotNull Direction direction) {
 			if (state.is(WWBlockTags.BLOCKS_TERMITE)) {
 				return false;
@@ -414,45 +603,6 @@ public class TermiteManager {
 			return moveableUp && moveableDown;
 		}
 
-		public static boolean isTooFar(boolean natural, @NotNull BlockPos mound, @NotNull BlockPos pos) {
-			return !mound.closerThan(pos, natural ? WWBlockConfig.get().termite.maxNaturalDistance : WWBlockConfig.get().termite.maxDistance);
-		}
-
-		public static void spawnGnawParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
-			if (level instanceof ServerLevel serverLevel && random.nextInt(GNAW_PARTICLE_CHANCE) == 0) {
-				int count = random.nextInt(MIN_GNAW_PARTICLES, MAX_GNAW_PARTICLES);
-				if (count > 0) {
-					serverLevel.sendParticles(
-						new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-						pos.getX() + 0.5D,
-						pos.getY() + 0.5D,
-						pos.getZ() + 0.5D,
-						count,
-						0.3F,
-						0.3F,
-						0.3F,
-						0.05D
-					);
-				}
-			}
-		}
-
-		public static void spawnEatParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
-			if (level instanceof ServerLevel serverLevel) {
-				serverLevel.sendParticles(
-					new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-					pos.getX() + 0.5D,
-					pos.getY() + 0.5D,
-					pos.getZ() + 0.5D,
-					random.nextInt(MIN_EAT_PARTICLES, MAX_EAT_PARTICLES),
-					0.3F,
-					0.3F,
-					0.3F,
-					0.05D
-				);
-			}
-		}
-
 		@NotNull
 		public BlockPos getMoundPos() {
 			return this.mound;
@@ -527,6 +677,7 @@ public class TermiteManager {
 
 		public static void addDegradable(Block degradable, Block result) {
 			DEGRADABLE_BLOCKS.put(degradable, result);
+			TermiteBlockFlags.invalidate();
 		}
 
 		public static void addNaturalDegradableBlocks() {
@@ -548,6 +699,7 @@ public class TermiteManager {
 
 		public static void addNaturalDegradable(@NotNull Block degradable, @NotNull Block result) {
 			NATURAL_DEGRADABLE_BLOCKS.put(degradable, result);
+			TermiteBlockFlags.invalidate();
 		}
 	}
 }
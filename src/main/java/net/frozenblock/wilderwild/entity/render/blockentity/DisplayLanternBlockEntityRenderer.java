@@ -36,6 +36,7 @@ import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
 
 @Environment(EnvType.CLIENT)
 public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEntity> implements BlockEntityRenderer<T> {
@@ -62,13 +63,14 @@ public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEnti
 			this.itemRenderer.renderStatic(stack, ItemDisplayContext.GROUND, light, OverlayTexture.NO_OVERLAY, poseStack, buffer, lantern.getLevel(), 1);
 			poseStack.popPose();
 		} else {
+			Quaternionf cameraRotation = Minecraft.getInstance().gameRenderer.getMainCamera().rotation();
 			for (DisplayLanternBlockEntity.Occupant entity : lantern.getFireflies()) {
 				double ageDelta = entity.age + partialTick;
 				FireflyRenderer.renderFirefly(
 					poseStack,
 					buffer,
 					light,
-					entity.getCustomName().toLowerCase().contains("nectar"),
+					entity.isNectar(),
 					overlay,
 					entity.age,
 					partialTick,
@@ -77,7 +79,7 @@ public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEnti
 					1F,
 					(float) entity.pos.x,
 					lantern.clientHanging ? 0.38F : 0.225F + (float) Math.sin(ageDelta * 0.03F) * 0.15F,
-					(float) entity.pos.z, Minecraft.getInstance().gameRenderer.getMainCamera().rotation()
+					(float) entity.pos.z, cameraRotation
 				);
 			}
 		}
@@ -54,7 +54,7 @@ public class HangingTendrilBlockEntityRenderer<T extends HangingTendrilBlockEnti
 	@Override
 	@NotNull
 	public ResourceLocation getTexture(@NotNull T entity) {
-		return entity.texture;
+		return entity.getTexture();
 	}
 
 	@Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.render.renderer;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
+
+/**
+ * Collects every firefly quad drawn during a level frame, from both firefly entities and display lantern occupants, and writes them grouped by {@link RenderType}.
+ * <p>
+ * Fireflies alternate between a body and a glow layer, so drawing them one by one ends the shared buffer's batch twice per firefly.
+ * Queued quads are written at the first batch flush after the level renderer's block entity pass, with all bodies first and all glows after.
+ */
+@Environment(EnvType.CLIENT)
+public final class FireflyBatchRenderer {
+	private static final List<Quad> QUADS = new ArrayList<>();
+	private static final Map<RenderType, IntArrayList> BODY_QUADS = new Reference2ObjectLinkedOpenHashMap<>();
+	private static final Map<RenderType, IntArrayList> GLOW_QUADS = new Reference2ObjectLinkedOpenHashMap<>();
+	private static int quadCount;
+	private static boolean collecting;
+
+	private FireflyBatchRenderer() {
+		throw new UnsupportedOperationException("FireflyBatchRenderer contains only static declarations.");
+	}
+
+	public static void beginFrame() {
+		clear();
+		collecting = true;
+	}
+
+	public static void endFrame() {
+		collecting = false;
+		clear();
+	}
+
+	/**
+	 * Only quads headed for the main buffer source are batched, as outline and GUI buffers are drawn on their own schedule.
+	 */
+	public static boolean canBatch(@NotNull MultiBufferSource buffer) {
+		return collecting && buffer == Minecraft.getInstance().renderBuffers().bufferSource();
+	}
+
+	public static void queue(
+		@NotNull RenderType layer,
+		boolean glow,
+		@NotNull Matrix4f pose,
+		float normalX,
+		float normalY,
+		float normalZ,
+		float color,
+		int overlay,
+		int packedLight
+	) {
+		Quad quad;
+		if (quadCount < QUADS.size()) {
+			quad = QUADS.get(quadCount);
+		} else {
+			quad = new Quad();
+			QUADS.add(quad);
+		}
+		quad.pose.set(pose);
+		quad.normalX = normalX;
+		quad.normalY = normalY;
+		quad.normalZ = normalZ;
+		quad.color = color;
+		quad.overlay = overlay;
+		quad.packedLight = packedLight;
+		(glow ? GLOW_QUADS : BODY_QUADS).computeIfAbsent(layer, renderType -> new IntArrayList()).add(quadCount);
+		++quadCount;
+	}
+
+	public static void flush(@NotNull MultiBufferSource buffer) {
+		collecting = false;
+		if (quadCount > 0) {
+			flushLayers(buffer, BODY_QUADS);
+			flushLayers(buffer, GLOW_QUADS);
+		}
+		clear();
+	}
+
+	private static void flushLayers(@NotNull MultiBufferSource buffer, @NotNull Map<RenderType, IntArrayList> quadsByLayer) {
+		for (Map.Entry<RenderType, IntArrayList> entry : quadsByLayer.entrySet()) {
+			IntArrayList indices = entry.getValue();
+			if (indices.isEmpty()) continue;
+			VertexConsumer vertexConsumer = buffer.getBuffer(entry.getKey());
+			for (int i = 0; i < indices.size(); i++) {
+				Quad quad = QUADS.get(indices.getInt(i));
+				FireflyRenderer.writeQuad(vertexConsumer, quad.pose, quad.normalX, quad.normalY, quad.normalZ, quad.color, quad.overlay, quad.packedLight);
+			}
+		}
+	}
+
+	private static void clear() {
+		quadCount = 0;
+		BODY_QUADS.values().forEach(IntArrayList::clear);
+		GLOW_QUADS.values().forEach(IntArrayList::clear);
+	}
+
+	private static final class Quad {
+		private final Matrix4f pose = new Matrix4f();
+		private float normalX;
+		private float normalY;
+		private float normalZ;
+		private float color;
+		private int overlay;
+		private int packedLight;
+	}
+}
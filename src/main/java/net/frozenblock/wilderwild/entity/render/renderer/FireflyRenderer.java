@@ -23,7 +23,6 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import java.util.function.Supplier;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.entity.variant.FireflyColor;
@@ -33,11 +32,12 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
 import org.joml.Quaternionf;
+import org.joml.Vector3f;
 
 public class FireflyRenderer extends EntityRenderer<Firefly> {
 	//CREDIT TO magistermaks ON GITHUB!!
@@ -54,6 +54,7 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 	private static final RenderType NECTAR_OVERLAY = RenderType.entityTranslucentEmissive(WWConstants.id("textures/entity/firefly/nectar_overlay.png"), true);
 	private static final float Y_OFFSET = 0.155F;
 	private static final Quaternionf QUAT_180 = Axis.YP.rotationDegrees(180F);
+	private static final Vector3f NORMAL = new Vector3f();
 
 	public FireflyRenderer(EntityRendererProvider.Context ctx) {
 		super(ctx);
@@ -67,43 +68,15 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 		poseStack.mulPose(QUAT_180);
 
 		PoseStack.Pose pose = poseStack.last();
-		Supplier<RenderType> nectarLayer = () -> age % 2 == 0 ? NECTAR_LAYER : NECTAR_FLAP_LAYER;
-		VertexConsumer vertexConsumer = buffer.getBuffer(nectar ? nectarLayer.get() : LAYER);
-
-		vertexConsumer
-			.addVertex(pose, -0.5F, -0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(0, 1)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, 0.5F, -0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(1, 1)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, 0.5F, 0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(1, 0)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, -0.5F, 0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(0, 0)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+		Matrix4f matrix = pose.pose();
+		Vector3f normal = pose.normal().transform(0F, 1F, 0F, NORMAL).normalize();
 
+		RenderType layer = nectar ? (age % 2 == 0 ? NECTAR_LAYER : NECTAR_FLAP_LAYER) : LAYER;
+		RenderType glowLayer;
 		if (color != null && LAYERS.get(color.key()) != null) {
-			RenderType layer = nectar ? NECTAR_OVERLAY : LAYERS.get(color.key());
-			vertexConsumer = buffer.getBuffer(layer);
+			glowLayer = nectar ? NECTAR_OVERLAY : LAYERS.get(color.key());
 		} else {
-			vertexConsumer = buffer.getBuffer(LAYERS.get(FireflyColor.ON.key()));
+			glowLayer = LAYERS.get(FireflyColor.ON.key());
 		}
 
 		float calcColor = (float) (flickers ?
@@ -111,36 +84,46 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 			Math.max(((Math.cos(((age + tickDelta) * Mth.PI) * 0.05F))), 0F)
 		);
 
+		if (FireflyBatchRenderer.canBatch(buffer)) {
+			FireflyBatchRenderer.queue(layer, false, matrix, normal.x, normal.y, normal.z, 1F, overlay, packedLight);
+			FireflyBatchRenderer.queue(glowLayer, true, matrix, normal.x, normal.y, normal.z, calcColor, overlay, packedLight);
+		} else {
+			writeQuad(buffer.getBuffer(layer), matrix, normal.x, normal.y, normal.z, 1F, overlay, packedLight);
+			writeQuad(buffer.getBuffer(glowLayer), matrix, normal.x, normal.y, normal.z, calcColor, overlay, packedLight);
+		}
+
+		poseStack.popPose();
+	}
+
+	static void writeQuad(@NotNull VertexConsumer vertexConsumer, @NotNull Matrix4f pose, float normalX, float normalY, float normalZ, float color, int overlay, int packedLight) {
 		vertexConsumer
 			.addVertex(pose, -0.5F, -0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(0, 1)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, 0.5F, -0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(1, 1)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, 0.5F, 0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(1, 0)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, -0.5F, 0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(0, 0)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-
-		poseStack.popPose();
+			.setNormal(normalX, normalY, normalZ);
 	}
 
 	public static int getOverlay(@NotNull Firefly entity, float whiteOverlayProgress) {
@@ -149,12 +132,7 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 
 	@Override
 	public void render(@NotNull Firefly entity, float yaw, float tickDelta, @NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, int light) {
-		boolean nectar = false;
-
-		Component component = entity.getCustomName();
-		if (component != null) {
-			nectar = component.getString().toLowerCase().contains("nectar");
-		}
+		boolean nectar = entity.isNectar();
 
 		float prevScale = entity.getPrevAnimScale();
 		float scale = prevScale + (tickDelta * (entity.getAnimScale() - prevScale));
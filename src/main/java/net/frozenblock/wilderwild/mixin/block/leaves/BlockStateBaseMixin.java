@@ -21,6 +21,7 @@ package net.frozenblock.wilderwild.mixin.block.leaves;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.frozenblock.wilderwild.block.impl.TopFaceCacheInterface;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
@@ -29,10 +30,14 @@ import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public class BlockStateBaseMixin {
+public class BlockStateBaseMixin implements TopFaceCacheInterface {
+
+	@Unique
+	private byte wilderWild$topFaceFull;
 
 	@WrapOperation(
 		method = "randomTick",
@@ -47,4 +52,17 @@ public class BlockStateBaseMixin {
 		}
 		original.call(instance, blockState, serverLevel, blockPos, randomSource);
 	}
+
+	@Unique
+	@Override
+	public byte wilderWild$getTopFaceFull() {
+		return this.wilderWild$topFaceFull;
+	}
+
+	@Unique
+	@Override
+	public void wilderWild$setTopFaceFull(byte topFaceFull) {
+		this.wilderWild$topFaceFull = topFaceFull;
+	}
+
 }
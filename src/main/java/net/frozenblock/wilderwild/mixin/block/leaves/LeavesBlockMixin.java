@@ -45,7 +45,8 @@ public class LeavesBlockMixin {
 	)
 	public Comparable<?> wilderWild$isRandomlyTicking(BlockState instance, Property property, Operation<Comparable> original) {
 		if (property == LeavesBlock.DISTANCE) {
-			if (FallingLeafUtil.getFallingLeafData(LeavesBlock.class.cast(this)).map(fallingLeafData -> fallingLeafData.leafLitterBlock().isPresent()).orElse(false)) {
+			FallingLeafUtil.FallingLeafData fallingLeafData = FallingLeafUtil.getFallingLeafData(LeavesBlock.class.cast(this));
+			if (fallingLeafData != null && fallingLeafData.leafLitterBlock().isPresent()) {
 				return 7;
 			}
 		}
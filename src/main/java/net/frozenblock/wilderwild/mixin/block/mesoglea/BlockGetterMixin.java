@@ -20,6 +20,7 @@ package net.frozenblock.wilderwild.mixin.block.mesoglea;
 
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.frozenblock.wilderwild.block.impl.MesogleaSections;
 import net.frozenblock.wilderwild.entity.impl.InMesogleaInterface;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.core.BlockPos;
@@ -49,7 +50,12 @@ public interface BlockGetterMixin {
 		if (context.collisionContext instanceof EntityCollisionContext entityCollisionContext) {
 			Entity entity = entityCollisionContext.getEntity();
 			if (entity instanceof InMesogleaInterface inMesogleaInterface) {
-				BlockState eyeState = getBlockState(BlockPos.containing(entity.getEyePosition()));
+				BlockPos eyePos = BlockPos.containing(entity.getEyePosition());
+				if (!MesogleaSections.mayContainMesoglea(BlockGetter.class.cast(this), eyePos)) {
+					inMesogleaInterface.wilderWild$setClipInMesoglea(false);
+					return;
+				}
+				BlockState eyeState = getBlockState(eyePos);
 				if (eyeState != null) {
 					inMesogleaInterface.wilderWild$setClipInMesoglea(
 						eyeState.is(WWBlockTags.MESOGLEA)
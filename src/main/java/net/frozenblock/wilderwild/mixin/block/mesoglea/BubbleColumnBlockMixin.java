@@ -27,6 +27,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -110,6 +111,14 @@ public abstract class BubbleColumnBlockMixin extends Block {
 		}
 	}
 
+	@Override
+	protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+		super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+		if (!level.isClientSide && WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
+			level.scheduleTick(pos, this, 5);
+		}
+	}
+
 	@Inject(
 		method = "updateShape",
 		at = @At(
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.mixin.block.mesoglea;
+
+import java.util.function.Predicate;
+import net.frozenblock.wilderwild.block.impl.MesogleaSectionInterface;
+import net.frozenblock.wilderwild.block.impl.MesogleaSections;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunkSection.class)
+public class LevelChunkSectionMixin implements MesogleaSectionInterface {
+
+	@Unique
+	private static final Predicate<BlockState> WILDERWILD$IS_MESOGLEA = state -> state.is(WWBlockTags.MESOGLEA);
+	@Unique
+	private static final byte WILDERWILD$UNKNOWN = 0;
+	@Unique
+	private static final byte WILDERWILD$MAY_CONTAIN = 1;
+	@Unique
+	private static final byte WILDERWILD$NONE = 2;
+
+	@Shadow
+	@Final
+	private PalettedContainer<BlockState> states;
+
+	@Unique
+	private byte wilderWild$mesoglea;
+	@Unique
+	private int wilderWild$mesogleaGeneration;
+
+	@Inject(method = "recalcBlockCounts", at = @At("TAIL"))
+	private void wilderWild$resetMesogleaOnRecalc(CallbackInfo info) {
+		this.wilderWild$mesoglea = WILDERWILD$UNKNOWN;
+	}
+
+	@Inject(method = "read", at = @At("TAIL"))
+	private void wilderWild$resetMesogleaOnRead(CallbackInfo info) {
+		this.wilderWild$mesoglea = WILDERWILD$UNKNOWN;
+	}
+
+	@Inject(
+		method = "setBlockState(IIILnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;",
+		at = @At("HEAD")
+	)
+	private void wilderWild$markMesoglea(int x, int y, int z, BlockState state, boolean useLocks, CallbackInfoReturnable<BlockState> info) {
+		if (this.wilderWild$mesoglea == WILDERWILD$NONE && state.is(WWBlockTags.MESOGLEA)) {
+			this.wilderWild$mesoglea = WILDERWILD$MAY_CONTAIN;
+		}
+	}
+
+	@Unique
+	@Override
+	public boolean wilderWild$mayContainMesoglea() {
+		int generation = MesogleaSections.getGeneration();
+		if (this.wilderWild$mesoglea == WILDERWILD$UNKNOWN || this.wilderWild$mesogleaGeneration != generation) {
+			// Only checks the palette, so a section that once held mesoglea may still report it until it is recalculated.
+			this.wilderWild$mesoglea = this.states.maybeHas(WILDERWILD$IS_MESOGLEA) ? WILDERWILD$MAY_CONTAIN : WILDERWILD$NONE;
+			this.wilderWild$mesogleaGeneration = generation;
+		}
+		return this.wilderWild$mesoglea == WILDERWILD$MAY_CONTAIN;
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.block.termite;
+
+import net.frozenblock.wilderwild.block.impl.TermiteFlagsInterface;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(BlockBehaviour.BlockStateBase.class)
+public class BlockStateBaseMixin implements TermiteFlagsInterface {
+
+	@Unique
+	private int wilderWild$termiteFlags;
+
+	@Unique
+	@Override
+	public int wilderWild$getTermiteFlags() {
+		return this.wilderWild$termiteFlags;
+	}
+
+	@Unique
+	@Override
+	public void wilderWild$setTermiteFlags(int flags) {
+		this.wilderWild$termiteFlags = flags;
+	}
+
+}
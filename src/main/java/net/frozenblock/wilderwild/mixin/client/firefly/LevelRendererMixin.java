@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.client.firefly;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.wilderwild.entity.render.renderer.FireflyBatchRenderer;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderBuffers;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Environment(EnvType.CLIENT)
+@Mixin(LevelRenderer.class)
+public class LevelRendererMixin {
+
+	@Shadow
+	@Final
+	private RenderBuffers renderBuffers;
+
+	@Inject(method = "renderLevel", at = @At("HEAD"))
+	private void wilderWild$beginFireflyBatch(CallbackInfo info) {
+		FireflyBatchRenderer.beginFrame();
+	}
+
+	@Inject(
+		method = "renderLevel",
+		at = @At(
+			value = "INVOKE",
+			target = "Lnet/minecraft/client/renderer/MultiBufferSource$BufferSource;endBatch(Lnet/minecraft/client/renderer/RenderType;)V",
+			ordinal = 0
+		),
+		slice = @Slice(
+			from = @At(
+				value = "INVOKE_STRING",
+				target = "Lnet/minecraft/util/profiling/ProfilerFiller;popPush(Ljava/lang/String;)V",
+				args = "ldc=blockentities"
+			)
+		)
+	)
+	private void wilderWild$flushFireflyBatch(CallbackInfo info) {
+		// Sliced to the first endBatch after the block entity pass starts, so display lantern occupants are batched along with firefly entities.
+		MultiBufferSource.BufferSource bufferSource = this.renderBuffers.bufferSource();
+		FireflyBatchRenderer.flush(bufferSource);
+		bufferSource.endLastBatch();
+	}
+
+	@Inject(method = "renderLevel", at = @At("RETURN"))
+	private void wilderWild$endFireflyBatch(CallbackInfo info) {
+		FireflyBatchRenderer.endFrame();
+	}
+
+}
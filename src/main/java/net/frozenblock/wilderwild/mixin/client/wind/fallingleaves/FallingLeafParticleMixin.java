@@ -24,7 +24,6 @@ import com.llamalad7.mixinextras.sugar.ref.LocalBooleanRef;
 import com.llamalad7.mixinextras.sugar.ref.LocalDoubleRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -68,7 +67,7 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
 			wilderWild$useWind.set(true);
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
+			Vec3 wind = WWClientWindManager.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D)
 				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 			wilderWild$windZ.set(wind.z);
 			return (float) wind.x * 0.6F;
@@ -106,7 +105,7 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 		require = 0
 	)
 	public void wilderWild$continueInWater(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
+		Vec3 wind = WWClientWindManager.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D)
 			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity()).scale(0.075D);
 		this.xd += (wind.x - this.xd) * (double)this.windCoefficient / 60D;
 		this.zd += (wind.z - this.zd) * (double)this.windCoefficient / 60D;
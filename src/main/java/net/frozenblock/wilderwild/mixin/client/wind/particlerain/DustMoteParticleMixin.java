@@ -54,7 +54,7 @@ public abstract class DustMoteParticleMixin extends WeatherParticle {
 		@Share("wilderWild$windZ")LocalDoubleRef windZ
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
+			Vec3 wind = WWClientWindManager.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D)
 				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 			windZ.set(wind.z);
 			return this.xd + (wind.x * 0.005D);
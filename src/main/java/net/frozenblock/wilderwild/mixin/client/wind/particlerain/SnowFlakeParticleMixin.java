@@ -113,7 +113,7 @@ public abstract class SnowFlakeParticleMixin extends WeatherParticle {
 
 	@Inject(method = "tick", at = @At("HEAD"), require = 0)
 	public void wilderWild$tick(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
+		Vec3 wind = WWClientWindManager.getWindMovement(this.level, this.x, this.y, this.z, 1.5D, 7D, 5D)
 			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 		this.xd += wind.x * 0.05D;
 		this.yd += wind.y * 0.005D;
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package net.frozenblock.wilderwild.mixin.entity.firefly;
+
+import net.frozenblock.wilderwild.entity.Firefly;
+import net.minecraft.server.level.ServerEntity;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerEntity.class)
+public class ServerEntityMixin {
+
+	@Shadow
+	@Final
+	private Entity entity;
+
+	@Inject(
+		method = "sendDirtyEntityData",
+		at = @At(
+			value = "INVOKE",
+			target = "Lnet/minecraft/server/level/ServerEntity;broadcastAndSend(Lnet/minecraft/network/protocol/Packet;)V",
+			ordinal = 0
+		)
+	)
+	private void wilderWild$countFireflyEntityData(CallbackInfo info) {
+		if (this.entity instanceof Firefly) {
+			Firefly.onEntityDataSent();
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.entity.jellyfish;
+
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.impl.JellyfishStingSectionInterface;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.entity.EntityAccess;
+import net.minecraft.world.level.entity.EntitySection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(EntitySection.class)
+public class EntitySectionMixin<T extends EntityAccess> implements JellyfishStingSectionInterface {
+
+	@Unique
+	private int wilderWild$stingTargetCount;
+
+	@Unique
+	private static boolean wilderWild$isStingTarget(Object entity) {
+		return entity instanceof LivingEntity && !(entity instanceof Jellyfish);
+	}
+
+	@Inject(method = "add", at = @At("HEAD"))
+	private void wilderWild$countStingTarget(T entity, CallbackInfo info) {
+		if (wilderWild$isStingTarget(entity)) {
+			++this.wilderWild$stingTargetCount;
+		}
+	}
+
+	@Inject(method = "remove", at = @At("RETURN"))
+	private void wilderWild$uncountStingTarget(T entity, CallbackInfoReturnable<Boolean> info) {
+		if (info.getReturnValueZ() && wilderWild$isStingTarget(entity)) {
+			--this.wilderWild$stingTargetCount;
+		}
+	}
+
+	@Unique
+	@Override
+	public int wilderWild$getStingTargetCount() {
+		return this.wilderWild$stingTargetCount;
+	}
+
+}
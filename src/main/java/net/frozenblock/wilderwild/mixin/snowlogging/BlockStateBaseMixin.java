@@ -24,6 +24,7 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import java.util.ArrayList;
 import java.util.List;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCache;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -52,6 +53,7 @@ import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -60,9 +62,17 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(BlockBehaviour.BlockStateBase.class)
 public abstract class BlockStateBaseMixin {
 
+	@Unique
+	private SnowloggedShapeCache wilderWild$snowloggedShapeCache;
+
 	@Shadow
 	protected abstract BlockState asState();
 
+	@Inject(method = "initCache", at = @At("TAIL"))
+	public void wilderWild$initCache(CallbackInfo info) {
+		this.wilderWild$snowloggedShapeCache = SnowloggedShapeCache.create(this.asState());
+	}
+
 	@ModifyReturnValue(
 		method = "getCollisionShape(Lnet/minecraft/world/level/BlockGetter;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/phys/shapes/CollisionContext;)Lnet/minecraft/world/phys/shapes/VoxelShape;",
 		at = @At("RETURN")
@@ -70,6 +80,8 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
+			SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+			if (shapeCache != null) return shapeCache.getCollisionShape(original, level, pos, context);
 			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
 		}
 		return original;
@@ -91,6 +103,8 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
+			SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+			if (shapeCache != null) return shapeCache.getVisualShape(original, level, pos, context);
 			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
 		}
 		return original;
@@ -100,6 +114,8 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
+			SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+			if (shapeCache != null) return shapeCache.getInteractionShape(original, level, pos);
 			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
 		}
 		return original;
@@ -109,6 +125,8 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
+			SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+			if (shapeCache != null) return shapeCache.getBlockSupportShape(original, level, pos);
 			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
 		}
 		return original;
@@ -118,6 +136,8 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
+			SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+			if (shapeCache != null) return shapeCache.getOcclusionShape(original, level, pos);
 			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
 		}
 		return original;
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.worldgen.surface;
+
+import net.frozenblock.wilderwild.worldgen.impl.conditionsource.FlagConditionSource;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(targets = "net.minecraft.world.level.levelgen.SurfaceRules$TestRuleSource")
+public class TestRuleSourceMixin {
+
+	@Shadow
+	@Final
+	private SurfaceRules.ConditionSource ifTrue;
+
+	@Shadow
+	@Final
+	private SurfaceRules.RuleSource thenRun;
+
+	@Inject(
+		method = "apply(Lnet/minecraft/world/level/levelgen/SurfaceRules$Context;)Lnet/minecraft/world/level/levelgen/SurfaceRules$SurfaceRule;",
+		at = @At("HEAD"),
+		cancellable = true
+	)
+	public void wilderWild$foldFlagCondition(SurfaceRules.Context context, CallbackInfoReturnable<SurfaceRules.SurfaceRule> info) {
+		if (this.ifTrue instanceof FlagConditionSource flagCondition) {
+			info.setReturnValue(flagCondition.isEnabled() ? this.thenRun.apply(context) : FlagConditionSource.PRUNED_RULE);
+		}
+	}
+}
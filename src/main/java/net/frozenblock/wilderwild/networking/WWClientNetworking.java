@@ -113,6 +113,7 @@ public final class WWClientNetworking {
 				stoneChestBlockEntity.cooldownTicks = packet.cooldownTicks();
 				stoneChestBlockEntity.stillLidTicks = packet.stillLidTicks();
 				stoneChestBlockEntity.closing = packet.closing();
+				stoneChestBlockEntity.catchUpLid(clientLevel, packet.gameTime());
 			}
 		});
 	}
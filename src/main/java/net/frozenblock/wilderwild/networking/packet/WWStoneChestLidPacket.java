@@ -29,7 +29,7 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
 
-public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing) implements CustomPacketPayload {
+public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing, long gameTime) implements CustomPacketPayload {
 	public static final Type<WWStoneChestLidPacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("stone_chest_lid")
 	);
@@ -37,22 +37,21 @@ public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float high
 	public static final StreamCodec<FriendlyByteBuf, WWStoneChestLidPacket> CODEC = StreamCodec.ofMember(WWStoneChestLidPacket::write, WWStoneChestLidPacket::new);
 
 	public WWStoneChestLidPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readInt(), buf.readInt(), buf.readBoolean());
+		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readVarInt(), buf.readVarInt(), buf.readBoolean(), buf.readVarLong());
 	}
 
 	public static void sendToAll(@NotNull StoneChestBlockEntity blockEntity) {
+		WWStoneChestLidPacket packet = new WWStoneChestLidPacket(
+			blockEntity.getBlockPos(),
+			blockEntity.openProgress,
+			blockEntity.highestLidPoint,
+			blockEntity.cooldownTicks,
+			blockEntity.stillLidTicks,
+			blockEntity.closing,
+			blockEntity.getLevel().getGameTime()
+		);
 		for (ServerPlayer player : PlayerLookup.tracking(blockEntity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWStoneChestLidPacket(
-					blockEntity.getBlockPos(),
-					blockEntity.openProgress,
-					blockEntity.highestLidPoint,
-					blockEntity.cooldownTicks,
-					blockEntity.stillLidTicks,
-					blockEntity.closing
-				)
-			);
+			ServerPlayNetworking.send(player, packet);
 		}
 	}
 
@@ -60,9 +59,10 @@ public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float high
 		buf.writeBlockPos(this.pos);
 		buf.writeFloat(this.openProgress);
 		buf.writeFloat(this.highestLidPoint);
-		buf.writeInt(this.cooldownTicks);
-		buf.writeInt(this.stillLidTicks);
+		buf.writeVarInt(this.cooldownTicks);
+		buf.writeVarInt(this.stillLidTicks);
 		buf.writeBoolean(this.closing);
+		buf.writeVarLong(this.gameTime);
 	}
 
 	@NotNull
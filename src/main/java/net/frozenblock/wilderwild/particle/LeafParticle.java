@@ -20,20 +20,17 @@ package net.frozenblock.wilderwild.particle;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.frozenblock.wilderwild.particle.impl.LeafTintCache;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
-import net.minecraft.client.color.block.BlockColor;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.CherryParticle;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
 import net.minecraft.client.particle.SpriteSet;
-import net.minecraft.client.renderer.BiomeColors;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleType;
 import net.minecraft.util.FastColor;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
@@ -51,15 +48,7 @@ public class LeafParticle extends CherryParticle {
 		FallingLeafUtil.LeafParticleData leafParticleData = FallingLeafUtil.getLeafParticleData(particleType);
 		int color = DEFAULT_UNTINTED_COLOR;
 		if (leafParticleData != null) {
-			Block leavesBlock = leafParticleData.leavesBlock();
-			BlockColor blockColor = ColorProviderRegistry.BLOCK.get(leavesBlock);
-			if (blockColor != null) {
-				BlockPos particlePos = BlockPos.containing(x, y, z);
-				color = world.getBlockTint(particlePos, BiomeColors.FOLIAGE_COLOR_RESOLVER);
-				try {
-					color = blockColor.getColor(leavesBlock.defaultBlockState(), world, particlePos, 0);
-				} catch (Exception ignored) {}
-			}
+			color = LeafTintCache.getTint(world, leafParticleData.leavesBlock(), BlockPos.containing(x, y, z), DEFAULT_UNTINTED_COLOR);
 		}
 		this.rCol = FastColor.ARGB32.red(color) / 255F;
 		this.bCol = FastColor.ARGB32.blue(color) / 255F;
@@ -23,9 +23,9 @@ import java.util.List;
 import java.util.function.Consumer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
+import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
@@ -73,8 +73,7 @@ public class WindParticle extends TextureSheetParticle {
 		super.tick();
 		double multXZ = 0.007D;
 		double multY = 0.0015D * 0.695;
-		Vec3 pos = new Vec3(this.x, this.y, this.z);
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, pos, 1D, 7D, 5D).scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
+		Vec3 wind = WWClientWindManager.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D).scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 		this.xd += wind.x() * multXZ;
 		this.yd += wind.y() * multY;
 		this.zd += wind.z() * multXZ;
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.particle.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
+import net.minecraft.client.color.block.BlockColor;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.BiomeColors;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches the tint of leaf particles per leaves block and block position.
+ * <p>
+ * The whole cache is dropped when the level changes or after {@link #LIFETIME} ticks, so biome or color changes show up quickly.
+ * It is also cleared on disconnect, so it does not keep the previous level alive.
+ */
+@Environment(EnvType.CLIENT)
+public final class LeafTintCache {
+	private static final int LIFETIME = 100;
+	private static final int MAX_ENTRIES = 4096;
+	private static final Map<Block, Long2IntOpenHashMap> TINTS = new Reference2ObjectOpenHashMap<>();
+	private static ClientLevel level;
+	private static long createdTime;
+	private static int size;
+
+	private LeafTintCache() {
+		throw new UnsupportedOperationException("LeafTintCache contains only static declarations.");
+	}
+
+	public static void clear() {
+		TINTS.clear();
+		level = null;
+		size = 0;
+	}
+
+	public static int getTint(@NotNull ClientLevel world, @NotNull Block leavesBlock, @NotNull BlockPos pos, int untintedColor) {
+		long gameTime = world.getGameTime();
+		if (level != world || gameTime - createdTime > LIFETIME || gameTime < createdTime || size >= MAX_ENTRIES) {
+			TINTS.values().forEach(Long2IntOpenHashMap::clear);
+			level = world;
+			createdTime = gameTime;
+			size = 0;
+		}
+
+		Long2IntOpenHashMap tints = TINTS.computeIfAbsent(leavesBlock, block -> {
+			Long2IntOpenHashMap map = new Long2IntOpenHashMap();
+			map.defaultReturnValue(Integer.MIN_VALUE);
+			return map;
+		});
+		long key = pos.asLong();
+		int tint = tints.get(key);
+		if (tint == Integer.MIN_VALUE) {
+			tint = computeTint(world, leavesBlock, pos, untintedColor);
+			tints.put(key, tint);
+			++size;
+		}
+		return tint;
+	}
+
+	private static int computeTint(@NotNull ClientLevel world, @NotNull Block leavesBlock, @NotNull BlockPos pos, int untintedColor) {
+		BlockColor blockColor = ColorProviderRegistry.BLOCK.get(leavesBlock);
+		if (blockColor == null) return untintedColor;
+		try {
+			return blockColor.getColor(leavesBlock.defaultBlockState(), world, pos, 0);
+		} catch (Exception ignored) {
+			return world.getBlockTint(pos, BiomeColors.FOLIAGE_COLOR_RESOLVER);
+		}
+	}
+}
@@ -118,6 +118,7 @@ public final class WWEntityTypes {
 			.build(WWConstants.string("sculk_spreader"))
 	);
 
+	// Falling litter is simulated by FallingLitterSimulator now; this stays registered so older saves still load.
 	public static final EntityType<FallingLeafTicker> FALLING_LEAVES = register(
 		"falling_leaves",
 		EntityType.Builder.<FallingLeafTicker>of(FallingLeafTicker::new, MobCategory.MISC)
@@ -22,15 +22,18 @@ import java.util.List;
 import net.frozenblock.lib.worldgen.surface.api.FrozenSurfaceRules;
 import net.frozenblock.lib.worldgen.surface.api.SurfaceRuleEvents;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.config.WWWorldgenConfig;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
 import net.frozenblock.wilderwild.worldgen.impl.conditionsource.BetaBeachConditionSource;
 import net.frozenblock.wilderwild.worldgen.impl.conditionsource.SnowUnderMountainConditionSource;
 import net.frozenblock.wilderwild.worldgen.impl.noise.WWNoise;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.levelgen.Noises;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import net.minecraft.world.level.levelgen.VerticalAnchor;
+import net.minecraft.world.level.levelgen.synth.NormalNoise;
 import org.jetbrains.annotations.NotNull;
 
 public final class WWSurfaceRules implements SurfaceRuleEvents.OverworldSurfaceRuleCallback, SurfaceRuleEvents.OverworldSurfaceRuleNoPrelimSurfaceCallback {
@@ -352,6 +355,16 @@ public final class WWSurfaceRules implements SurfaceRuleEvents.OverworldSurfaceR
 		);
 	}
 
+	@NotNull
+	private static ResourceKey<NormalNoise.NoiseParameters> sandBeachNoise() {
+		return WWWorldgenConfig.get().reducedBeachNoise ? WWNoise.SAND_BEACH_REDUCED_KEY : WWNoise.SAND_BEACH_KEY;
+	}
+
+	@NotNull
+	private static ResourceKey<NormalNoise.NoiseParameters> gravelBeachNoise() {
+		return WWWorldgenConfig.get().reducedBeachNoise ? WWNoise.GRAVEL_BEACH_REDUCED_KEY : WWNoise.GRAVEL_BEACH_KEY;
+	}
+
 	@NotNull
 	public static SurfaceRules.RuleSource gravelBetaBeaches() {
 		return SurfaceRules.ifTrue(
@@ -363,7 +376,7 @@ public final class WWSurfaceRules implements SurfaceRuleEvents.OverworldSurfaceR
 					SurfaceRules.ifTrue(
 						SurfaceRules.not(SurfaceRules.yStartCheck(VerticalAnchor.absolute(65), 0)),
 						SurfaceRules.ifTrue(
-							SurfaceRules.noiseCondition(WWNoise.GRAVEL_BEACH_KEY, 0.12, 1.7976931348623157E308),
+							SurfaceRules.noiseCondition(gravelBeachNoise(), 0.12, 1.7976931348623157E308),
 							fallingBlockAndSafeBlockRules(Blocks.GRAVEL, Blocks.STONE)
 						)
 					)
@@ -383,7 +396,7 @@ public final class WWSurfaceRules implements SurfaceRuleEvents.OverworldSurfaceR
 					SurfaceRules.ifTrue(
 						SurfaceRules.not(SurfaceRules.yStartCheck(VerticalAnchor.absolute(65), 0)),
 						SurfaceRules.ifTrue(
-							SurfaceRules.noiseCondition(WWNoise.SAND_BEACH_KEY, 0.12, 1.7976931348623157E308),
+							SurfaceRules.noiseCondition(sandBeachNoise(), 0.12, 1.7976931348623157E308),
 							fallingBlockAndSafeBlockRules(Blocks.SAND, Blocks.SANDSTONE)
 						)
 					)
@@ -403,7 +416,7 @@ public final class WWSurfaceRules implements SurfaceRuleEvents.OverworldSurfaceR
 					SurfaceRules.ifTrue(
 						SurfaceRules.not(SurfaceRules.yStartCheck(VerticalAnchor.absolute(64), 0)),
 						SurfaceRules.ifTrue(
-							SurfaceRules.noiseCondition(WWNoise.SAND_BEACH_KEY, 0.12, 1.7976931348623157E308),
+							SurfaceRules.noiseCondition(sandBeachNoise(), 0.12, 1.7976931348623157E308),
 							fallingBlockAndSafeBlockRules(Blocks.SAND, Blocks.SANDSTONE)
 						)
 					)
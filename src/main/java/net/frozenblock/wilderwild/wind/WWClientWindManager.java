@@ -18,6 +18,8 @@
 
 package net.frozenblock.wilderwild.wind;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.api.ClientWindManager;
@@ -44,6 +46,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 	public static double cloudX;
 	public static double cloudY;
 	public static double cloudZ;
+	private static final List<CachedWindField> WIND_FIELDS = new ArrayList<>();
 
 	public static double getCloudX(float partialTick) {
 		return Mth.lerp(partialTick, prevCloudX, cloudX);
@@ -160,6 +163,29 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		}
 	}
 
+	/**
+	 * Grid-cached equivalent of {@code ClientWindManager.getWindMovement} for particles.
+	 */
+	@NotNull
+	public static Vec3 getWindMovement(@NotNull ClientLevel level, double x, double y, double z, double scale, double clamp, double windDisturbanceClamp) {
+		for (CachedWindField windField : WIND_FIELDS) {
+			if (windField.scale == scale && windField.clamp == clamp && windField.windDisturbanceClamp == windDisturbanceClamp) {
+				return windField.cache.getWindMovement(level, x, y, z);
+			}
+		}
+		CachedWindField windField = new CachedWindField(
+			scale,
+			clamp,
+			windDisturbanceClamp,
+			new WindFieldCache(
+				(sampleLevel, pos) -> ClientWindManager.getWindMovement((ClientLevel) sampleLevel, pos, scale, clamp, windDisturbanceClamp),
+				sampleLevel -> ClientWindManager.getWindDisturbances()
+			)
+		);
+		WIND_FIELDS.add(windField);
+		return windField.cache.getWindMovement(level, x, y, z);
+	}
+
 	public static boolean shouldUseWind() {
 		return WWAmbienceAndMiscConfig.CLOUD_MOVEMENT && ClientWindManager.shouldUseWind();
 	}
@@ -182,4 +208,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 			}
 		});
 	}
+
+	private record CachedWindField(double scale, double clamp, double windDisturbanceClamp, WindFieldCache cache) {
+	}
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.lang.ref.WeakReference;
+import net.frozenblock.lib.wind.api.WindDisturbance;
+import net.frozenblock.lib.wind.api.WindManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Samples wind once per tick on a coarse grid and trilinearly interpolates it for callers.
+ * <p>
+ * Cells touched by a {@link WindDisturbance} are sampled directly, as disturbances are too sharp to interpolate.
+ * A cache only holds one level at a time and must only be used from a single thread.
+ * The level is only weakly referenced, as caches are usually static and would otherwise keep a closed world alive.
+ */
+public final class WindFieldCache {
+	public static final int CELL_SIZE = 4;
+	private static final double INVERSE_CELL_SIZE = 1D / CELL_SIZE;
+	private static final int MAX_DISTURBED_CELLS = 4096;
+
+	private final Sampler sampler;
+	private final DisturbanceSource disturbanceSource;
+	private final Long2ObjectOpenHashMap<Vec3> samples = new Long2ObjectOpenHashMap<>();
+	private final LongOpenHashSet disturbedCells = new LongOpenHashSet();
+	private boolean allCellsDisturbed;
+	private WeakReference<Level> level = new WeakReference<>(null);
+	private long gameTime = Long.MIN_VALUE;
+
+	public WindFieldCache(@NotNull Sampler sampler, @NotNull DisturbanceSource disturbanceSource) {
+		this.sampler = sampler;
+		this.disturbanceSource = disturbanceSource;
+	}
+
+	@NotNull
+	public static Iterable<? extends WindDisturbance> getServerDisturbances(@NotNull Level level) {
+		return WindManager.getWindManager((ServerLevel) level).getWindDisturbances();
+	}
+
+	@NotNull
+	public Vec3 getWindMovement(@NotNull Level level, double x, double y, double z) {
+		this.refresh(level);
+		double gridX = x * INVERSE_CELL_SIZE;
+		double gridY = y * INVERSE_CELL_SIZE;
+		double gridZ = z * INVERSE_CELL_SIZE;
+		int cellX = Mth.floor(gridX);
+		int cellY = Mth.floor(gridY);
+		int cellZ = Mth.floor(gridZ);
+		if (this.allCellsDisturbed || this.disturbedCells.contains(BlockPos.asLong(cellX, cellY, cellZ))) {
+			return this.sampler.sample(level, new Vec3(x, y, z));
+		}
+
+		double deltaX = gridX - cellX;
+		double deltaY = gridY - cellY;
+		double deltaZ = gridZ - cellZ;
+		Vec3 c000 = this.getSample(level, cellX, cellY, cellZ);
+		Vec3 c100 = this.getSample(level, cellX + 1, cellY, cellZ);
+		Vec3 c010 = this.getSample(level, cellX, cellY + 1, cellZ);
+		Vec3 c110 = this.getSample(level, cellX + 1, cellY + 1, cellZ);
+		Vec3 c001 = this.getSample(level, cellX, cellY, cellZ + 1);
+		Vec3 c101 = this.getSample(level, cellX + 1, cellY, cellZ + 1);
+		Vec3 c011 = this.getSample(level, cellX, cellY + 1, cellZ + 1);
+		Vec3 c111 = this.getSample(level, cellX + 1, cellY + 1, cellZ + 1);
+		return new Vec3(
+			Mth.lerp3(deltaX, deltaY, deltaZ, c000.x, c100.x, c010.x, c110.x, c001.x, c101.x, c011.x, c111.x),
+			Mth.lerp3(deltaX, deltaY, deltaZ, c000.y, c100.y, c010.y, c110.y, c001.y, c101.y, c011.y, c111.y),
+			Mth.lerp3(deltaX, deltaY, deltaZ, c000.z, c100.z, c010.z, c110.z, c001.z, c101.z, c011.z, c111.z)
+		);
+	}
+
+	@NotNull
+	private Vec3 getSample(@NotNull Level level, int cellX, int cellY, int cellZ) {
+		long key = BlockPos.asLong(cellX, cellY, cellZ);
+		Vec3 sample = this.samples.get(key);
+		if (sample == null) {
+			sample = this.sampler.sample(level, new Vec3(cellX * CELL_SIZE, cellY * CELL_SIZE, cellZ * CELL_SIZE));
+			this.samples.put(key, sample);
+		}
+		return sample;
+	}
+
+	private void refresh(@NotNull Level level) {
+		long gameTime = level.getGameTime();
+		Level cachedLevel = this.level.get();
+		if (cachedLevel == level && this.gameTime == gameTime) return;
+		if (cachedLevel != level) this.level = new WeakReference<>(level);
+		this.gameTime = gameTime;
+		this.samples.clear();
+		this.disturbedCells.clear();
+		this.allCellsDisturbed = false;
+
+		for (WindDisturbance windDisturbance : this.disturbanceSource.getDisturbances(level)) {
+			AABB area = windDisturbance.affectedArea;
+			// Closed bounds, so a disturbance lying exactly on a cell edge still marks the cell behind it.
+			int minX = Mth.floor(area.minX * INVERSE_CELL_SIZE) - 1;
+			int minY = Mth.floor(area.minY * INVERSE_CELL_SIZE) - 1;
+			int minZ = Mth.floor(area.minZ * INVERSE_CELL_SIZE) - 1;
+			int maxX = Mth.floor(area.maxX * INVERSE_CELL_SIZE);
+			int maxY = Mth.floor(area.maxY * INVERSE_CELL_SIZE);
+			int maxZ = Mth.floor(area.maxZ * INVERSE_CELL_SIZE);
+			long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+			if (cellCount + this.disturbedCells.size() > MAX_DISTURBED_CELLS) {
+				this.allCellsDisturbed = true;
+				this.disturbedCells.clear();
+				return;
+			}
+			for (int cellX = minX; cellX <= maxX; cellX++) {
+				for (int cellY = minY; cellY <= maxY; cellY++) {
+					for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+						this.disturbedCells.add(BlockPos.asLong(cellX, cellY, cellZ));
+					}
+				}
+			}
+		}
+	}
+
+	@FunctionalInterface
+	public interface Sampler {
+		@NotNull
+		Vec3 sample(@NotNull Level level, @NotNull Vec3 pos);
+	}
+
+	@FunctionalInterface
+	public interface DisturbanceSource {
+		@NotNull
+		Iterable<? extends WindDisturbance> getDisturbances(@NotNull Level level);
+	}
+}
@@ -24,7 +24,7 @@ import net.minecraft.util.KeyDispatchDataCodec;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import org.jetbrains.annotations.NotNull;
 
-public final class BetaBeachConditionSource implements SurfaceRules.ConditionSource {
+public final class BetaBeachConditionSource implements FlagConditionSource {
 	public static final KeyDispatchDataCodec<BetaBeachConditionSource> CODEC = KeyDispatchDataCodec.of(
 		RecordCodecBuilder.mapCodec(instance ->
 			instance.group(
@@ -59,20 +59,16 @@ public final class BetaBeachConditionSource implements SurfaceRules.ConditionSou
 		return CODEC;
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return GENERATE;
+	}
+
 	@Override
 	@NotNull
 	public SurfaceRules.Condition apply(@NotNull SurfaceRules.Context context) {
-		class BetaBeachCondition extends SurfaceRules.LazyYCondition {
-			BetaBeachCondition(@NotNull SurfaceRules.Context context) {
-				super(context);
-			}
-
-			protected boolean compute() {
-				return GENERATE;
-			}
-		}
-
-		return new BetaBeachCondition(context);
+		boolean generate = GENERATE;
+		return () -> generate;
 	}
 
 	@Override
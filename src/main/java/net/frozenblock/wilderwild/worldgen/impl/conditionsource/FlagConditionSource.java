@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.worldgen.impl.conditionsource;
+
+import net.minecraft.world.level.levelgen.SurfaceRules;
+
+/**
+ * A {@link SurfaceRules.ConditionSource} whose result only depends on a config flag.
+ * <p>
+ * Rules guarded by one are resolved when the rule tree is applied, so surface building never tests the flag per block.
+ */
+public interface FlagConditionSource extends SurfaceRules.ConditionSource {
+	SurfaceRules.SurfaceRule PRUNED_RULE = (x, y, z) -> null;
+
+	boolean isEnabled();
+}
@@ -19,54 +19,50 @@
 package net.frozenblock.wilderwild.worldgen.impl.features;
 
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
+import net.minecraft.core.QuartPos;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Snows under leaves, between the {@link Heightmap.Types#MOTION_BLOCKING} and {@link Heightmap.Types#MOTION_BLOCKING_NO_LEAVES} heightmaps.
+ * <p>
+ * Both heightmaps are read for the whole chunk up front, and columns without leaves above the ground are skipped before any biome lookup.
+ * Biomes are resolved once per quart cell.
+ */
 public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
+	private static final int CHUNK_AREA = 16 * 16;
 
 	public SnowBlanketFeature(@NotNull Codec<NoneFeatureConfiguration> codec) {
 		super(codec);
 	}
 
-	private static boolean placeSnowAtPos(@NotNull WorldGenLevel level, @NotNull BlockPos.MutableBlockPos motionBlockingPos, @NotNull BlockPos.MutableBlockPos belowLeavesPos, @NotNull Holder<Biome> biomeHolder) {
-		boolean returnValue = false;
-		int lowestY = belowLeavesPos.getY() - 1;
-		while (motionBlockingPos.getY() > lowestY) {
-			if (placeSnowLayer(level, motionBlockingPos, biomeHolder)) {
-				returnValue = true;
-			}
-			motionBlockingPos.move(Direction.DOWN);
-		}
-		return returnValue;
-	}
-
-	private static boolean placeSnowAtPos(@NotNull WorldGenLevel level, @NotNull BlockPos.MutableBlockPos motionBlockingPos, @NotNull BlockPos.MutableBlockPos belowLeavesPos) {
-		boolean returnValue = false;
-		int lowestY = belowLeavesPos.getY() - 1;
-		while (motionBlockingPos.getY() > lowestY) {
-			if (placeSnowLayer(level, motionBlockingPos)) {
-				returnValue = true;
-			}
-			motionBlockingPos.move(Direction.DOWN);
+	@NotNull
+	private static Holder<Biome> getBiome(@NotNull WorldGenLevel level, @NotNull Long2ObjectOpenHashMap<Holder<Biome>> biomes, int x, int y, int z) {
+		int quartX = QuartPos.fromBlock(x);
+		int quartY = QuartPos.fromBlock(y);
+		int quartZ = QuartPos.fromBlock(z);
+		long key = BlockPos.asLong(quartX, quartY, quartZ);
+		Holder<Biome> biome = biomes.get(key);
+		if (biome == null) {
+			biome = level.getNoiseBiome(quartX, quartY, quartZ);
+			biomes.put(key, biome);
 		}
-		return returnValue;
-	}
-
-	private static boolean placeSnowLayer(@NotNull WorldGenLevel level, @NotNull BlockPos.MutableBlockPos pos) {
-		return placeSnowLayer(level, pos, level.getBiome(pos));
+		return biome;
 	}
 
 	private static boolean placeSnowLayer(@NotNull WorldGenLevel level, @NotNull BlockPos.MutableBlockPos pos, @NotNull Holder<Biome> biomeHolder) {
@@ -78,7 +74,7 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 				level.setBlock(pos, Blocks.SNOW.defaultBlockState(), Block.UPDATE_CLIENTS);
 			}
 			BlockState belowState = level.getBlockState(pos.move(Direction.DOWN));
-			if (belowState.hasProperty(BlockStateProperties.SNOWY)) {
+			if (belowState.hasProperty(BlockStateProperties.SNOWY) && !belowState.getValue(BlockStateProperties.SNOWY)) {
 				level.setBlock(pos, belowState.setValue(BlockStateProperties.SNOWY, true), Block.UPDATE_CLIENTS);
 			}
 			pos.move(Direction.UP);
@@ -91,35 +87,45 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 	public boolean place(@NotNull FeaturePlaceContext<NoneFeatureConfiguration> context) {
 		BlockPos pos = context.origin();
 		WorldGenLevel level = context.level();
+		ChunkAccess chunk = level.getChunk(pos);
+		Heightmap motionBlocking = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.MOTION_BLOCKING);
+		Heightmap motionBlockingNoLeaves = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES);
+		int[] topHeights = new int[CHUNK_AREA];
+		int[] groundHeights = new int[CHUNK_AREA];
+		for (int index = 0; index < CHUNK_AREA; index++) {
+			int localX = index >> 4;
+			int localZ = index & 15;
+			topHeights[index] = motionBlocking.getFirstAvailable(localX, localZ) - 1;
+			groundHeights[index] = motionBlockingNoLeaves.getFirstAvailable(localX, localZ);
+		}
+
+		Long2ObjectOpenHashMap<Holder<Biome>> biomes = new Long2ObjectOpenHashMap<>();
 		BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-		BlockPos.MutableBlockPos mutablePlacementPos = new BlockPos.MutableBlockPos();
-		boolean returnValue = false;
-		int posX = pos.getX();
-		int posZ = pos.getZ();
 		BlockState iceState = Blocks.ICE.defaultBlockState();
-		for (int i = 0; i < 16; i++) {
-			int x = posX + i;
-			for (int j = 0; j < 16; j++) {
-				int z = posZ + j;
-				mutablePos.set(x, level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z) - 1, z);
-				mutablePlacementPos.set(x, level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z), z);
-				if (!mutablePos.equals(mutablePlacementPos) && mutablePos.getY() > mutablePlacementPos.getY()) {
-					Holder<Biome> biomeHolder = level.getBiome(mutablePos);
-					Holder<Biome> lowerBiomeHolder = level.getBiome(mutablePlacementPos);
-					if (lowerBiomeHolder.value().shouldFreeze(level, mutablePlacementPos.move(Direction.DOWN), false)) {
-						level.setBlock(mutablePlacementPos, iceState, 2);
-					}
-					mutablePlacementPos.move(Direction.UP);
-					if (biomeHolder.equals(lowerBiomeHolder)) {
-						if (placeSnowAtPos(level, mutablePos, mutablePlacementPos, biomeHolder)) {
-							returnValue = true;
-						}
-					} else {
-						if (placeSnowAtPos(level, mutablePos, mutablePlacementPos)) {
-							returnValue = true;
-						}
-					}
+		boolean returnValue = false;
+		int minX = chunk.getPos().getMinBlockX();
+		int minZ = chunk.getPos().getMinBlockZ();
+		for (int index = 0; index < CHUNK_AREA; index++) {
+			int topY = topHeights[index];
+			int groundY = groundHeights[index];
+			if (topY <= groundY) continue;
+
+			int x = minX + (index >> 4);
+			int z = minZ + (index & 15);
+			Holder<Biome> biomeHolder = getBiome(level, biomes, x, topY, z);
+			Holder<Biome> lowerBiomeHolder = getBiome(level, biomes, x, groundY, z);
+			if (lowerBiomeHolder.value().shouldFreeze(level, mutablePos.set(x, groundY - 1, z), false)) {
+				level.setBlock(mutablePos, iceState, Block.UPDATE_CLIENTS);
+			}
+
+			boolean sameBiome = biomeHolder.equals(lowerBiomeHolder);
+			mutablePos.set(x, topY, z);
+			while (mutablePos.getY() >= groundY) {
+				Holder<Biome> placementBiome = sameBiome ? biomeHolder : getBiome(level, biomes, x, mutablePos.getY(), z);
+				if (placeSnowLayer(level, mutablePos, placementBiome)) {
+					returnValue = true;
 				}
+				mutablePos.move(Direction.DOWN);
 			}
 		}
 		return returnValue;